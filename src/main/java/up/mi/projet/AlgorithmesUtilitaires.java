@@ -1,20 +1,22 @@
 package up.mi.projet;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
-import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 /**
  * Cette classe fournit une collection d'algorithmes utilitaires pour la coloration de graphes.
  * Elle inclut des méthodes pour vérifier la validité d'un coloriage, des algorithmes de 2-coloriage,
- * des algorithmes gloutons comme Welsh-Powell, et l'algorithme de Wigderson.
+ * des algorithmes gloutons comme Welsh-Powell ou DSATUR, et l'algorithme de Wigderson.
  */
 public class AlgorithmesUtilitaires {
 
+    private static final int SEUIL_PARALLELE = 1 << 14; // Nombre de sommets à partir duquel on parallélise
+
     /**
      * Vérifie si un étiquetage donné est un coloriage valide pour un graphe.
      * Un coloriage est valide si aucun des deux sommets adjacents n'a la même couleur.
+     * Les listes d'adjacence sont parcourues directement, en O(n + m).
      *
      * @param g Le graphe à vérifier.
      * @param e L'étiquetage (coloriage) à tester.
@@ -25,14 +27,182 @@ public class AlgorithmesUtilitaires {
             return false;
         }
 
+        Graphe.CurseurVoisins voisins = null;
         for (int i = 0; i < g.getCompteur(); i++) {
-            for (int j = 0; j < g.getCompteur(); j++) {
-                if (g.estAdjacent(i, j)) {
-                    if (e.getCouleur(i) == e.getCouleur(j)) {
+            voisins = voisins == null ? g.curseur(i) : voisins.placer(i);
+            while (voisins.aSuivant()) {
+                if (e.getNumeroCouleur(i) == e.getNumeroCouleur(voisins.suivant())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Vérifie si un étiquetage donné est un coloriage valide pour un graphe figé.
+     * Seules les arêtes existantes sont parcourues, soit O(n + m) au lieu de O(n²) ;
+     * sur un grand graphe, les sommets sont répartis entre plusieurs threads.
+     *
+     * @param g Le graphe figé à vérifier.
+     * @param e L'étiquetage (coloriage) à tester.
+     * @return {@code true} si l'étiquetage est un coloriage valide, {@code false} sinon.
+     */
+    public static boolean estCol(GrapheFige g, Etiquetage e) {
+        if (e.getTaille() < g.getCompteur()) {
+            return false;
+        }
+
+        IntStream sommets = IntStream.range(0, g.getCompteur());
+        if (g.getCompteur() >= SEUIL_PARALLELE) {
+            sommets = sommets.parallel();
+        }
+        return sommets.noneMatch(i -> {
+            int c = e.getNumeroCouleur(i);
+            for (int k = g.getDebut(i); k < g.getFin(i); k++) {
+                if (c == e.getNumeroCouleur(g.getCible(k))) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Vérifie un étiquetage et renvoie toutes les arêtes en conflit ainsi que le nombre de
+     * couleurs utilisées.
+     *
+     * @param g Le graphe à vérifier.
+     * @param e L'étiquetage à tester.
+     * @return Le {@link RapportColoration} de l'étiquetage.
+     * @throws IllegalArgumentException Si l'étiquetage ne couvre pas tous les sommets.
+     */
+    public static RapportColoration verifier(Graphe g, Etiquetage e) {
+        return verifier(g.figer(), e);
+    }
+
+    /**
+     * Vérifie un étiquetage sur un graphe figé, en O(n + m) réparti entre plusieurs threads.
+     * Les sommets sont découpés en blocs ; chaque bloc parcourt les arêtes {@code (u, v)} avec
+     * {@code u < v} de ses sommets et accumule ses conflits dans son propre tableau, puis les
+     * tableaux sont concaténés dans l'ordre des blocs. Les couleurs distinctes sont comptées sur
+     * une copie triée des numéros, si bien qu'un numéro négatif ou très grand est signalé dans le
+     * rapport au lieu de faire échouer la vérification.
+     *
+     * @param g Le graphe figé à vérifier.
+     * @param e L'étiquetage à tester.
+     * @return Le {@link RapportColoration} de l'étiquetage.
+     * @throws IllegalArgumentException Si l'étiquetage ne couvre pas tous les sommets.
+     */
+    public static RapportColoration verifier(GrapheFige g, Etiquetage e) {
+        int n = g.getCompteur();
+        if (e.getTaille() < n) {
+            throw new IllegalArgumentException("L'étiquetage ne couvre pas les " + n + " sommets du graphe.");
+        }
+        int nbBlocs = n < SEUIL_PARALLELE ? 1 : 4 * ForkJoinPool.getCommonPoolParallelism();
+
+        int[][] parBloc = IntStream.range(0, nbBlocs).parallel().mapToObj(b -> {
+            int[] conflits = new int[0];
+            int taille = 0;
+            int fin = (int) ((long) n * (b + 1) / nbBlocs);
+            for (int u = (int) ((long) n * b / nbBlocs); u < fin; u++) {
+                int c = e.getNumeroCouleur(u);
+                for (int k = g.getDebut(u); k < g.getFin(u); k++) {
+                    int v = g.getCible(k);
+                    if (u < v && c == e.getNumeroCouleur(v)) {
+                        if (taille == conflits.length) {
+                            conflits = Arrays.copyOf(conflits, Math.max(16, 2 * taille));
+                        }
+                        conflits[taille++] = u;
+                        conflits[taille++] = v;
+                    }
+                }
+            }
+            return Arrays.copyOf(conflits, taille);
+        }).toArray(int[][]::new);
+
+        int total = 0;
+        for (int[] bloc : parBloc) {
+            total += bloc.length;
+        }
+        int[] conflits = new int[total];
+        int position = 0;
+        for (int[] bloc : parBloc) {
+            System.arraycopy(bloc, 0, conflits, position, bloc.length);
+            position += bloc.length;
+        }
+
+        // Couleurs distinctes par tri d'une copie : les numéros sont des entiers quelconques,
+        // qui ne peuvent pas servir d'indices
+        IntStream sommets = n < SEUIL_PARALLELE ? IntStream.range(0, n) : IntStream.range(0, n).parallel();
+        int[] invalides = sommets.filter(i -> e.getNumeroCouleur(i) <= Etiquetage.SANS_COULEUR).toArray();
+        int[] numeros = new int[n];
+        for (int i = 0; i < n; i++) {
+            numeros[i] = e.getNumeroCouleur(i);
+        }
+        if (n < SEUIL_PARALLELE) {
+            Arrays.sort(numeros);
+        } else {
+            Arrays.parallelSort(numeros);
+        }
+        int nombreCouleurs = 0;
+        for (int i = 0; i < n; i++) {
+            if (numeros[i] > Etiquetage.SANS_COULEUR && (i == 0 || numeros[i] != numeros[i - 1])) {
+                nombreCouleurs++;
+            }
+        }
+        return new RapportColoration(conflits, invalides, nombreCouleurs);
+    }
+
+    /**
+     * Vérifie si un étiquetage donné est un coloriage valide pour un graphe dense.
+     * Les sommets sont regroupés par couleur ; pour chaque classe, on construit le masque
+     * de bits de ses membres et on teste chaque ligne d'adjacence contre ce masque,
+     * ce qui vérifie 64 paires de sommets par opération.
+     *
+     * @param g Le graphe dense à vérifier.
+     * @param e L'étiquetage (coloriage) à tester.
+     * @return {@code true} si l'étiquetage est un coloriage valide, {@code false} sinon.
+     */
+    public static boolean estCol(GrapheDense g, Etiquetage e) {
+        int n = g.getCompteur();
+        if (e.getTaille() < n) {
+            return false;
+        }
+
+        // Tri par dénombrement des sommets selon leur couleur
+        int nbCouleurs = e.getNombreCouleurs() + 1;
+        int[] debutClasse = new int[nbCouleurs + 1];
+        for (int i = 0; i < n; i++) {
+            debutClasse[e.getNumeroCouleur(i) + 1]++;
+        }
+        for (int c = 0; c < nbCouleurs; c++) {
+            debutClasse[c + 1] += debutClasse[c];
+        }
+        int[] parCouleur = new int[n];
+        int[] pos = Arrays.copyOf(debutClasse, nbCouleurs);
+        for (int i = 0; i < n; i++) {
+            parCouleur[pos[e.getNumeroCouleur(i)]++] = i;
+        }
+
+        int mots = g.getNombreMots();
+        long[] masque = new long[mots];
+        for (int c = 0; c < nbCouleurs; c++) {
+            for (int k = debutClasse[c]; k < debutClasse[c + 1]; k++) {
+                int s = parCouleur[k];
+                masque[s >>> 6] |= 1L << s;
+            }
+            for (int k = debutClasse[c]; k < debutClasse[c + 1]; k++) {
+                long[] ligne = g.getLigne(parCouleur[k]);
+                for (int w = 0; w < mots; w++) {
+                    if ((ligne[w] & masque[w]) != 0) {
                         return false;
                     }
                 }
             }
+            for (int k = debutClasse[c]; k < debutClasse[c + 1]; k++) {
+                masque[parCouleur[k] >>> 6] = 0;
+            }
         }
         return true;
     }
@@ -40,21 +210,64 @@ public class AlgorithmesUtilitaires {
     /**
      * Tente de réaliser un 2-coloriage d'un graphe.
      * Un graphe est 2-coloriable si et seulement s'il est biparti.
-     * L'algorithme utilise un parcours en profondeur (DFS) pour assigner les couleurs.
+     * L'algorithme utilise un parcours en largeur (BFS) sur la vue figée du graphe
+     * pour assigner les couleurs.
      *
      * @param g Le graphe à colorier.
      * @return Un {@link Etiquetage} représentant le 2-coloriage.
-     * @throws NonBipartiException Si le graphe n'est pas biparti et ne peut donc pas être 2-colorié.
+     * @throws NonBipartiException Si le graphe n'est pas biparti et ne peut donc pas être 2-colorié ;
+     *                             l'exception contient un cycle impair du graphe.
      */
     public static Etiquetage deuxCol(Graphe g) throws NonBipartiException {
+        return deuxCol(g.figer());
+    }
+
+    /**
+     * Tente de réaliser un 2-coloriage d'un graphe figé, en O(n + m).
+     * Le parcours en largeur utilise une file dans un tableau d'entiers : il n'est pas récursif,
+     * et la profondeur du graphe n'est donc pas limitée par la pile du thread.
+     * Chaque sommet reçoit la couleur {@link Couleur#ROUGE} ou {@link Couleur#VERT} selon la parité
+     * de sa distance à la racine de sa composante.
+     *
+     * @param g Le graphe figé à colorier.
+     * @return Un {@link Etiquetage} représentant le 2-coloriage.
+     * @throws NonBipartiException Si le graphe n'est pas biparti et ne peut donc pas être 2-colorié ;
+     *                             l'exception contient un cycle impair du graphe.
+     * @see #deuxCol(Graphe)
+     */
+    public static Etiquetage deuxCol(GrapheFige g) throws NonBipartiException {
         int n = g.getCompteur();
-        Etiquetage e = new Etiquetage(n);
+        Etiquetage e = g.nouvelEtiquetage();
+        int[] file = new int[n];
+        int[] parent = new int[n];
 
-        for (int i = 0; i < n; i++) {
-            if (e.getCouleur(i) == Couleur.AUCUNE) {
-                boolean ok = dfsColor(g, e, i, Couleur.ROUGE);
-                if (!ok) {
-                    throw new NonBipartiException("Le graphe n'est pas biparti : conflit de couleur détecté.");
+        for (int racine = 0; racine < n; racine++) {
+            if (e.getNumeroCouleur(racine) != Etiquetage.SANS_COULEUR) {
+                continue;
+            }
+            e.setCouleur(racine, Couleur.ROUGE);
+            parent[racine] = -1;
+            int tete = 0;
+            int queue = 0;
+            file[queue++] = racine;
+
+            while (tete < queue) {
+                int u = file[tete++];
+                int couleur = e.getNumeroCouleur(u);
+                int autre = couleur == Couleur.ROUGE.ordinal() ? Couleur.VERT.ordinal() : Couleur.ROUGE.ordinal();
+
+                for (int k = g.getDebut(u); k < g.getFin(u); k++) {
+                    int v = g.getCible(k);
+                    int cv = e.getNumeroCouleur(v);
+                    if (cv == Etiquetage.SANS_COULEUR) {
+                        e.setNumeroCouleur(v, autre);
+                        parent[v] = u;
+                        file[queue++] = v;
+                    } else if (cv == couleur) {
+                        int[] cycle = cycleImpair(parent, u, v);
+                        throw new NonBipartiException("Le graphe n'est pas biparti : cycle impair de longueur "
+                                + cycle.length + " détecté.", cycle);
+                    }
                 }
             }
         }
@@ -63,31 +276,38 @@ public class AlgorithmesUtilitaires {
     }
 
     /**
-     * Fonction auxiliaire récursive (DFS) pour le 2-coloriage.
-     * Elle parcourt le graphe et assigne une couleur à chaque sommet, en s'assurant
-     * que les sommets adjacents ont des couleurs différentes.
+     * Reconstruit le cycle impair formé par l'arête {@code (u, v)} et les chemins qui mènent de
+     * {@code u} et {@code v} à leur ancêtre commun dans l'arbre du parcours en largeur.
+     * Les deux extrémités ayant la même couleur, elles sont à la même profondeur : on remonte
+     * donc les deux chemins pas à pas jusqu'à ce qu'ils se rejoignent.
      *
-     * @param g       Le graphe en cours de coloriage.
-     * @param e       L'étiquetage à mettre à jour.
-     * @param u       L'indice du sommet actuel à traiter.
-     * @param couleur La couleur à assigner au sommet {@code u}.
-     * @return {@code true} si le coloriage partiel est cohérent, {@code false} si un conflit est détecté.
+     * @param parent Le parent de chaque sommet dans l'arbre du parcours (-1 pour la racine).
+     * @param u      Une extrémité de l'arête en conflit.
+     * @param v      L'autre extrémité.
+     * @return Les sommets du cycle, dans l'ordre de parcours, de {@code u} à {@code v}.
      */
-    private static boolean dfsColor(Graphe g, Etiquetage e, int u, Couleur couleur) {
-        if (e.getCouleur(u) != Couleur.AUCUNE) {
-            return e.getCouleur(u) == couleur;
+    private static int[] cycleImpair(int[] parent, int u, int v) {
+        int longueur = 0;
+        int a = u;
+        int b = v;
+        while (a != b) {
+            a = parent[a];
+            b = parent[b];
+            longueur++;
         }
 
-        e.setCouleur(u, couleur);
-        Couleur autre = (couleur == Couleur.ROUGE) ? Couleur.VERT : Couleur.ROUGE;
-
-        for (Sommet v : g.getVoisins(u)) {
-            if (!dfsColor(g, e, v.getValeur(), autre)) {
-                return false;
-            }
+        // u, parent(u), ..., ancêtre, ..., parent(v), v
+        int[] cycle = new int[2 * longueur + 1];
+        a = u;
+        b = v;
+        for (int k = 0; k < longueur; k++) {
+            cycle[k] = a;
+            cycle[2 * longueur - k] = b;
+            a = parent[a];
+            b = parent[b];
         }
-
-        return true;
+        cycle[longueur] = a;
+        return cycle;
     }
 
     /**
@@ -100,24 +320,128 @@ public class AlgorithmesUtilitaires {
      * @return L'entier représentant la plus petite couleur disponible.
      */
     public static int minCouleurPossible(Graphe g, Etiquetage e, int s) {
-        int n = g.getCompteur();
-        boolean[] interdit = new boolean[n];
+        return minCouleurPossible(g, e, s, g.curseur(s), new boolean[g.getDegre(s) + 1]);
+    }
+
+    /**
+     * Détermine la plus petite couleur disponible pour un sommet, sans allocation : les boucles
+     * sur de nombreux sommets réutilisent un même curseur et un même tableau de travail.
+     *
+     * @param g        Le graphe.
+     * @param e        L'étiquetage actuel.
+     * @param s        L'indice du sommet à colorier.
+     * @param voisins  Un curseur du graphe, replacé sur {@code s}.
+     * @param interdit Un tableau de travail entièrement à {@code false}, d'au moins deg(s) + 1
+     *                 cases ; il est remis à {@code false} avant le retour.
+     * @return L'entier représentant la plus petite couleur disponible.
+     * @see #minCouleurPossible(Graphe, Etiquetage, int)
+     */
+    static int minCouleurPossible(Graphe g, Etiquetage e, int s, Graphe.CurseurVoisins voisins, boolean[] interdit) {
+        int deg = g.getDegre(s);
+        voisins.placer(s);
+        while (voisins.aSuivant()) {
+            int code = e.getNumeroCouleur(voisins.suivant()) - 1;
+            if (code >= 0 && code <= deg) {
+                interdit[code] = true;
+            }
+        }
+        return premiereCouleurLibre(interdit, deg);
+    }
 
-        for (Sommet v : g.getVoisins(s)) {
-            Couleur c = e.getCouleur(v.getValeur());
-            int code = c.ordinal() - 1;
-            if (code >= 0) {
+    /**
+     * Détermine la plus petite couleur disponible pour un sommet d'un graphe figé.
+     * Seules les couleurs 0 à deg(s) peuvent être interdites, ce qui borne le travail à O(deg).
+     *
+     * @param g Le graphe figé.
+     * @param e L'étiquetage actuel.
+     * @param s L'indice du sommet à colorier.
+     * @return L'entier représentant la plus petite couleur disponible.
+     */
+    public static int minCouleurPossible(GrapheFige g, Etiquetage e, int s) {
+        return minCouleurPossible(g, e, s, new boolean[g.getDegre(s) + 1]);
+    }
+
+    /**
+     * Détermine la plus petite couleur disponible pour un sommet d'un graphe figé, sans
+     * allocation : les boucles sur de nombreux sommets réutilisent un même tableau de travail,
+     * dimensionné par {@link #degreMax(GrapheFige)}.
+     *
+     * @param g        Le graphe figé.
+     * @param e        L'étiquetage actuel.
+     * @param s        L'indice du sommet à colorier.
+     * @param interdit Un tableau de travail entièrement à {@code false}, d'au moins deg(s) + 1
+     *                 cases ; il est remis à {@code false} avant le retour.
+     * @return L'entier représentant la plus petite couleur disponible.
+     * @see #minCouleurPossible(GrapheFige, Etiquetage, int)
+     */
+    static int minCouleurPossible(GrapheFige g, Etiquetage e, int s, boolean[] interdit) {
+        int deg = g.getDegre(s);
+        for (int k = g.getDebut(s); k < g.getFin(s); k++) {
+            int code = e.getNumeroCouleur(g.getCible(k)) - 1;
+            if (code >= 0 && code <= deg) {
                 interdit[code] = true;
             }
         }
+        return premiereCouleurLibre(interdit, deg);
+    }
+
+    /**
+     * Renvoie la première case à {@code false} parmi les cases 0 à deg, qui ne peuvent pas être
+     * toutes à {@code true}, puis remet ces cases à {@code false}.
+     */
+    private static int premiereCouleurLibre(boolean[] interdit, int deg) {
+        int couleur = 0;
+        while (interdit[couleur]) {
+            couleur++;
+        }
+        Arrays.fill(interdit, 0, deg + 1, false);
+        return couleur;
+    }
+
+    /**
+     * @param g Le graphe figé.
+     * @return Le plus grand degré d'un sommet, 0 pour un graphe sans sommet.
+     */
+    static int degreMax(GrapheFige g) {
+        int max = 0;
+        for (int i = 0; i < g.getCompteur(); i++) {
+            max = Math.max(max, g.getDegre(i));
+        }
+        return max;
+    }
 
-        for (int couleur = 0; couleur < n; couleur++) {
-            if (!interdit[couleur]) {
-                return couleur;
+    /**
+     * Détermine la plus petite couleur disponible pour un sommet d'un graphe dense.
+     * La ligne d'adjacence est parcourue mot par mot : les blocs de 64 non-voisins sont sautés
+     * en une seule comparaison.
+     *
+     * @param g Le graphe dense.
+     * @param e L'étiquetage actuel.
+     * @param s L'indice du sommet à colorier.
+     * @return L'entier représentant la plus petite couleur disponible.
+     */
+    public static int minCouleurPossible(GrapheDense g, Etiquetage e, int s) {
+        int deg = g.getDegre(s);
+        boolean[] interdit = new boolean[deg + 1];
+        long[] ligne = g.getLigne(s);
+
+        for (int w = 0; w < g.getNombreMots(); w++) {
+            long mot = ligne[w];
+            while (mot != 0) {
+                int v = (w << 6) + Long.numberOfTrailingZeros(mot);
+                int code = e.getNumeroCouleur(v) - 1;
+                if (code >= 0 && code <= deg) {
+                    interdit[code] = true;
+                }
+                mot &= mot - 1;
             }
         }
 
-        return n;
+        int couleur = 0;
+        while (interdit[couleur]) {
+            couleur++;
+        }
+        return couleur;
     }
 
     /**
@@ -129,36 +453,162 @@ public class AlgorithmesUtilitaires {
      * @return Un {@link Etiquetage} résultant du coloriage glouton.
      */
     public static Etiquetage glouton(Graphe g, int[] num) {
-        int n = g.getCompteur();
-        Etiquetage e = new Etiquetage(n);
+        return glouton(g.figer(), num);
+    }
+
+    /**
+     * Applique un algorithme de coloriage glouton sur un graphe figé.
+     *
+     * @param g   Le graphe figé à colorier.
+     * @param num Un tableau d'entiers spécifiant l'ordre de traitement des sommets.
+     * @return Un {@link Etiquetage} résultant du coloriage glouton.
+     * @see #glouton(Graphe, int[])
+     */
+    public static Etiquetage glouton(GrapheFige g, int[] num) {
+        Etiquetage e = g.nouvelEtiquetage();
+        boolean[] interdit = new boolean[degreMax(g) + 1];
 
         for (int s : num) {
-            int c = minCouleurPossible(g, e, s);
-            e.setCouleur(s, Couleur.values()[c + 1]);
+            int c = minCouleurPossible(g, e, s, interdit);
+            e.setNumeroCouleur(s, c + 1);
         }
         return e;
     }
 
     /**
      * Trie les sommets d'un graphe par ordre de degré décroissant.
+     * Les degrés étant maintenus par le graphe, le tri se fait par dénombrement en O(n + Δ).
      *
      * @param g Le graphe dont les sommets doivent être triés.
      * @return Un tableau d'indices de sommets triés par degré décroissant.
      */
     public static int[] triDegre(Graphe g) {
+        int[] degres = new int[g.getCompteur()];
+        for (int i = 0; i < degres.length; i++) {
+            degres[i] = g.getDegre(i);
+        }
+        return triDenombrementDecroissant(degres);
+    }
+
+    /**
+     * Trie les sommets d'un graphe figé par ordre de degré décroissant, en O(n + Δ).
+     *
+     * @param g Le graphe figé dont les sommets doivent être triés.
+     * @return Un tableau d'indices de sommets triés par degré décroissant.
+     */
+    public static int[] triDegre(GrapheFige g) {
+        int[] degres = new int[g.getCompteur()];
+        for (int i = 0; i < degres.length; i++) {
+            degres[i] = g.getDegre(i);
+        }
+        return triDenombrementDecroissant(degres);
+    }
+
+    /**
+     * Calcule l'ordre « plus petit dernier » (smallest-last) des sommets d'un graphe.
+     *
+     * @param g Le graphe.
+     * @return Un tableau d'indices de sommets dans l'ordre « plus petit dernier ».
+     * @see #triPlusPetitDernier(GrapheFige)
+     */
+    public static int[] triPlusPetitDernier(Graphe g) {
+        return triPlusPetitDernier(g.figer());
+    }
+
+    /**
+     * Calcule l'ordre « plus petit dernier » (smallest-last) des sommets d'un graphe figé, en
+     * O(n + m) par l'algorithme de Matula et Beck : on retire successivement un sommet de degré
+     * minimal dans le graphe restant, et l'ordre est l'inverse de l'ordre de retrait.
+     * Colorié gloutonnement dans cet ordre, un graphe de dégénérescence d reçoit au plus d + 1 couleurs.
+     *
+     * @param g Le graphe figé.
+     * @return Un tableau d'indices de sommets dans l'ordre « plus petit dernier ».
+     */
+    public static int[] triPlusPetitDernier(GrapheFige g) {
+        int[] ordre = new int[g.getCompteur()];
+        retraitsDegreMinimal(g, ordre);
+        return ordre;
+    }
+
+    /**
+     * Calcule la dégénérescence d'un graphe : le plus petit d tel que tout sous-graphe possède
+     * un sommet de degré au plus d.
+     *
+     * @param g Le graphe.
+     * @return La dégénérescence du graphe (0 pour un graphe sans arête).
+     */
+    public static int degenerescence(Graphe g) {
+        return degenerescence(g.figer());
+    }
+
+    /**
+     * Calcule la dégénérescence d'un graphe figé en O(n + m).
+     *
+     * @param g Le graphe figé.
+     * @return La dégénérescence du graphe (0 pour un graphe sans arête).
+     * @see #degenerescence(Graphe)
+     */
+    public static int degenerescence(GrapheFige g) {
+        return retraitsDegreMinimal(g, new int[g.getCompteur()]);
+    }
+
+    /**
+     * Retire un à un les sommets de degré minimal du graphe restant, rangés dans des {@link SeauxDegres}.
+     *
+     * @param g     Le graphe figé.
+     * @param ordre Reçoit les sommets dans l'ordre inverse des retraits.
+     * @return Le plus grand degré d'un sommet au moment de son retrait, c'est-à-dire la dégénérescence.
+     */
+    private static int retraitsDegreMinimal(GrapheFige g, int[] ordre) {
         int n = g.getCompteur();
-        Integer[] indices = new Integer[n];
+        int[] degres = new int[n];
         for (int i = 0; i < n; i++) {
-            indices[i] = i;
+            degres[i] = g.getDegre(i);
         }
+        SeauxDegres seaux = new SeauxDegres(degres);
+        int degenerescence = 0;
 
-        Arrays.sort(indices, Comparator.comparingInt(g::getDegre).reversed());
+        for (int k = n - 1; k >= 0; k--) {
+            int s = seaux.sommetMin();
+            degenerescence = Math.max(degenerescence, seaux.getDegre(s));
+            seaux.retirer(s);
+            ordre[k] = s;
+            for (int j = g.getDebut(s); j < g.getFin(s); j++) {
+                int v = g.getCible(j);
+                if (seaux.contient(v)) {
+                    seaux.decrementer(v);
+                }
+            }
+        }
+        return degenerescence;
+    }
 
-        int[] num = new int[n];
-        for (int k = 0; k < n; k++) {
-            num[k] = indices[k];
+    /**
+     * Trie des indices par valeur décroissante grâce à un tri par dénombrement (stable :
+     * à valeur égale, les indices restent dans l'ordre croissant).
+     *
+     * @param valeurs Les valeurs (positives) associées à chaque indice.
+     * @return Les indices de 0 à {@code valeurs.length - 1} triés par valeur décroissante.
+     */
+    static int[] triDenombrementDecroissant(int[] valeurs) {
+        int max = 0;
+        for (int d : valeurs) {
+            max = Math.max(max, d);
         }
 
+        // debut[max - d] : première position des sommets de valeur d
+        int[] debut = new int[max + 2];
+        for (int d : valeurs) {
+            debut[max - d + 1]++;
+        }
+        for (int k = 0; k <= max; k++) {
+            debut[k + 1] += debut[k];
+        }
+
+        int[] num = new int[valeurs.length];
+        for (int i = 0; i < valeurs.length; i++) {
+            num[debut[max - valeurs[i]]++] = i;
+        }
         return num;
     }
 
@@ -170,9 +620,241 @@ public class AlgorithmesUtilitaires {
      * @return Un {@link Etiquetage} produit par l'algorithme de Welsh-Powell.
      */
     public static Etiquetage welshPowell(Graphe g) {
+        return welshPowell(g.figer());
+    }
+
+    /**
+     * Implémente l'algorithme de Welsh-Powell sur un graphe figé.
+     *
+     * @param g Le graphe figé à colorier.
+     * @return Un {@link Etiquetage} produit par l'algorithme de Welsh-Powell.
+     */
+    public static Etiquetage welshPowell(GrapheFige g) {
         return glouton(g, triDegre(g));
     }
 
+    /**
+     * Implémente l'algorithme RLF (« Recursive Largest First », Leighton) pour la coloration de graphe.
+     * Les classes de couleur sont construites l'une après l'autre : chacune commence par le sommet
+     * non colorié de plus grand degré résiduel, puis ajoute tant que possible le candidat ayant
+     * le plus de voisins parmi les sommets exclus de la classe (et, à égalité, le moins de voisins
+     * parmi les candidats restants).
+     *
+     * @param g Le graphe à colorier.
+     * @return Un {@link Etiquetage} produit par l'algorithme RLF.
+     */
+    public static Etiquetage rlf(Graphe g) {
+        return rlf(g.figer());
+    }
+
+    /**
+     * Implémente l'algorithme RLF sur un graphe figé, en O(n² + k·m) pour k couleurs.
+     *
+     * Pour chaque candidat, le nombre de voisins parmi les candidats et parmi les exclus est tenu
+     * dans des tableaux d'entiers, mis à jour lorsqu'un sommet passe des candidats aux exclus :
+     * le choix du sommet suivant est un simple parcours des candidats, sans recompter de voisinage.
+     *
+     * @param g Le graphe figé à colorier.
+     * @return Un {@link Etiquetage} produit par l'algorithme RLF.
+     * @see #rlf(Graphe)
+     */
+    public static Etiquetage rlf(GrapheFige g) {
+        final int candidat = 0;
+        final int exclu = 1;
+        final int colorie = 2;
+        int n = g.getCompteur();
+        Etiquetage e = g.nouvelEtiquetage();
+        int[] etat = new int[n];
+        int[] degreResiduel = new int[n]; // Voisins non coloriés
+        int[] voisinsCandidats = new int[n];
+        int[] voisinsExclus = new int[n];
+        int[] candidats = new int[n];
+        int[] positions = new int[n];
+        int[] restants = new int[n];
+        int nbRestants = n;
+        for (int i = 0; i < n; i++) {
+            degreResiduel[i] = g.getDegre(i);
+            restants[i] = i;
+        }
+
+        int couleur = 0;
+        while (nbRestants > 0) {
+            couleur++;
+            // Tous les sommets non coloriés sont candidats pour la nouvelle classe
+            int nbCandidats = 0;
+            for (int r = 0; r < nbRestants; r++) {
+                int v = restants[r];
+                etat[v] = candidat;
+                voisinsCandidats[v] = degreResiduel[v];
+                voisinsExclus[v] = 0;
+                positions[v] = nbCandidats;
+                candidats[nbCandidats++] = v;
+            }
+
+            boolean premier = true;
+            while (nbCandidats > 0) {
+                int s = candidats[0];
+                for (int p = 1; p < nbCandidats; p++) {
+                    int v = candidats[p];
+                    boolean mieux = premier
+                            ? voisinsCandidats[v] > voisinsCandidats[s]
+                            : voisinsExclus[v] > voisinsExclus[s]
+                                    || (voisinsExclus[v] == voisinsExclus[s] && voisinsCandidats[v] < voisinsCandidats[s]);
+                    if (mieux) {
+                        s = v;
+                    }
+                }
+                premier = false;
+
+                // s rejoint la classe, ses voisins candidats deviennent exclus
+                nbCandidats = retirerCandidat(s, candidats, positions, nbCandidats);
+                etat[s] = colorie;
+                e.setNumeroCouleur(s, couleur);
+                for (int k = g.getDebut(s); k < g.getFin(s); k++) {
+                    int v = g.getCible(k);
+                    degreResiduel[v]--;
+                    if (etat[v] != candidat) {
+                        continue;
+                    }
+                    nbCandidats = retirerCandidat(v, candidats, positions, nbCandidats);
+                    etat[v] = exclu;
+                    for (int j = g.getDebut(v); j < g.getFin(v); j++) {
+                        int w = g.getCible(j);
+                        if (etat[w] == candidat) {
+                            voisinsCandidats[w]--;
+                            voisinsExclus[w]++;
+                        }
+                    }
+                }
+            }
+
+            int nb = 0;
+            for (int r = 0; r < nbRestants; r++) {
+                if (etat[restants[r]] != colorie) {
+                    restants[nb++] = restants[r];
+                }
+            }
+            nbRestants = nb;
+        }
+        return e;
+    }
+
+    /**
+     * Retire un sommet de la liste des candidats en O(1), en le remplaçant par le dernier.
+     *
+     * @return Le nouveau nombre de candidats.
+     */
+    private static int retirerCandidat(int v, int[] candidats, int[] positions, int nbCandidats) {
+        int dernier = candidats[--nbCandidats];
+        candidats[positions[v]] = dernier;
+        positions[dernier] = positions[v];
+        return nbCandidats;
+    }
+
+    /**
+     * Colorie un graphe gloutonnement dans l'ordre « plus petit dernier », avec au plus
+     * {@link #degenerescence(GrapheFige) dégénérescence} + 1 couleurs.
+     *
+     * @param g Le graphe à colorier.
+     * @return Un {@link Etiquetage} résultant du coloriage glouton.
+     */
+    public static Etiquetage plusPetitDernier(Graphe g) {
+        return plusPetitDernier(g.figer());
+    }
+
+    /**
+     * Colorie un graphe figé gloutonnement dans l'ordre « plus petit dernier ».
+     *
+     * @param g Le graphe figé à colorier.
+     * @return Un {@link Etiquetage} résultant du coloriage glouton.
+     * @see #plusPetitDernier(Graphe)
+     */
+    public static Etiquetage plusPetitDernier(GrapheFige g) {
+        return glouton(g, triPlusPetitDernier(g));
+    }
+
+    /**
+     * Implémente l'algorithme DSATUR (Brélaz) pour la coloration de graphe.
+     * À chaque étape, on colorie le sommet non colorié de plus grande saturation (nombre de
+     * couleurs distinctes parmi ses voisins), puis de plus grand degré dans le sous-graphe
+     * non colorié, avec la plus petite couleur disponible.
+     *
+     * @param g Le graphe à colorier.
+     * @return Un {@link Etiquetage} produit par l'algorithme DSATUR.
+     */
+    public static Etiquetage dsatur(Graphe g) {
+        return dsatur(g.figer());
+    }
+
+    /**
+     * Implémente l'algorithme DSATUR sur un graphe figé, en O((n + m) log n).
+     *
+     * Les sommets non coloriés sont rangés dans un {@link TasIndexe} ordonné par (saturation,
+     * degré résiduel). Chaque sommet possède un ensemble de bits des couleurs présentes dans son
+     * voisinage : colorier un sommet met à jour ses voisins non coloriés en O(log n) chacun, et
+     * la plus petite couleur libre est le premier bit nul de cet ensemble.
+     *
+     * @param g Le graphe figé à colorier.
+     * @return Un {@link Etiquetage} produit par l'algorithme DSATUR.
+     */
+    public static Etiquetage dsatur(GrapheFige g) {
+        return dsatur(g, g.nouvelEtiquetage());
+    }
+
+    /**
+     * Applique DSATUR en écrivant dans un étiquetage fourni, par exemple un étiquetage sur le
+     * tas pour une coloration intermédiaire qui ne doit pas créer de fichier projeté.
+     *
+     * @param g Le graphe figé à colorier.
+     * @param e L'étiquetage à remplir, de {@link GrapheFige#getCompteur()} sommets.
+     * @return L'étiquetage {@code e}.
+     */
+    static Etiquetage dsatur(GrapheFige g, Etiquetage e) {
+        int n = g.getCompteur();
+        int[] saturation = new int[n];
+        int[] degreResiduel = new int[n];
+        long[][] presentes = new long[n][]; // Bit c - 1 : couleur c présente chez un voisin
+        TasIndexe file = new TasIndexe(saturation, degreResiduel);
+
+        for (int i = 0; i < n; i++) {
+            degreResiduel[i] = g.getDegre(i);
+            presentes[i] = new long[1];
+            file.inserer(i);
+        }
+
+        while (!file.estVide()) {
+            int s = file.extraireMax();
+
+            long[] bits = presentes[s];
+            int w = 0;
+            while (w < bits.length && bits[w] == -1L) {
+                w++;
+            }
+            int c = (w << 6) + (w < bits.length ? Long.numberOfTrailingZeros(~bits[w]) : 0);
+            e.setNumeroCouleur(s, c + 1);
+            presentes[s] = null;
+
+            for (int k = g.getDebut(s); k < g.getFin(s); k++) {
+                int v = g.getCible(k);
+                if (!file.contient(v)) {
+                    continue;
+                }
+                degreResiduel[v]--;
+                long[] voisin = presentes[v];
+                if ((c >>> 6) >= voisin.length) {
+                    voisin = Arrays.copyOf(voisin, Math.max(2 * voisin.length, (c >>> 6) + 1));
+                    presentes[v] = voisin;
+                }
+                if ((voisin[c >>> 6] & (1L << c)) == 0) {
+                    voisin[c >>> 6] |= 1L << c;
+                    saturation[v]++;
+                }
+                file.mettreAJour(v);
+            }
+        }
+        return e;
+    }
+
     /**
      * Crée un sous-graphe induit par un ensemble de sommets.
      *
@@ -200,6 +882,48 @@ public class AlgorithmesUtilitaires {
         return sous;
     }
 
+    /**
+     * Crée le sous-graphe figé induit par un ensemble de sommets d'un graphe figé.
+     * Le sommet {@code sg[i]} du graphe original devient le sommet {@code i} du sous-graphe.
+     *
+     * @param g  Le graphe figé original.
+     * @param sg Un tableau d'indices de sommets qui formeront le sous-graphe.
+     * @return Un nouveau {@link GrapheFige} qui est le sous-graphe induit.
+     */
+    public static GrapheFige sousGraphe(GrapheFige g, int[] sg) {
+        int k = sg.length;
+        int[] local = new int[g.getCompteur()];
+        Arrays.fill(local, -1);
+        for (int i = 0; i < k; i++) {
+            local[sg[i]] = i;
+        }
+
+        int[] debuts = new int[k + 1];
+        for (int i = 0; i < k; i++) {
+            int deg = 0;
+            for (int p = g.getDebut(sg[i]); p < g.getFin(sg[i]); p++) {
+                if (local[g.getCible(p)] >= 0) {
+                    deg++;
+                }
+            }
+            debuts[i + 1] = debuts[i] + deg;
+        }
+
+        int[] cibles = new int[debuts[k]];
+        for (int i = 0; i < k; i++) {
+            int pos = debuts[i];
+            for (int p = g.getDebut(sg[i]); p < g.getFin(sg[i]); p++) {
+                int j = local[g.getCible(p)];
+                if (j >= 0) {
+                    cibles[pos++] = j;
+                }
+            }
+            Arrays.sort(cibles, debuts[i], debuts[i + 1]);
+        }
+
+        return new GrapheFigeTableaux(debuts, cibles);
+    }
+
     /**
      * Récupère la liste des voisins non coloriés d'un sommet.
      *
@@ -209,13 +933,35 @@ public class AlgorithmesUtilitaires {
      * @return Un tableau d'indices des voisins non coloriés.
      */
     public static int[] voisinsNonColories(Graphe g, Etiquetage e, int s) {
-        List<Integer> liste = new ArrayList<>();
-        for (Sommet v : g.getVoisins(s)) {
-            if (e.getCouleur(v.getValeur()) == Couleur.AUCUNE) {
-                liste.add(v.getValeur());
+        int[] voisins = new int[g.getDegre(s)];
+        int deg = g.voisins(s, voisins);
+        int pos = 0;
+        for (int k = 0; k < deg; k++) {
+            if (e.getNumeroCouleur(voisins[k]) == Etiquetage.SANS_COULEUR) {
+                voisins[pos++] = voisins[k];
+            }
+        }
+        return Arrays.copyOf(voisins, pos);
+    }
+
+    /**
+     * Récupère la liste des voisins non coloriés d'un sommet d'un graphe figé.
+     *
+     * @param g Le graphe figé.
+     * @param e L'étiquetage actuel.
+     * @param s L'indice du sommet.
+     * @return Un tableau d'indices des voisins non coloriés.
+     */
+    public static int[] voisinsNonColories(GrapheFige g, Etiquetage e, int s) {
+        int[] voisins = new int[degreNonColories(g, e, s)];
+        int pos = 0;
+        for (int k = g.getDebut(s); k < g.getFin(s); k++) {
+            int v = g.getCible(k);
+            if (e.getNumeroCouleur(v) == Etiquetage.SANS_COULEUR) {
+                voisins[pos++] = v;
             }
         }
-        return liste.stream().mapToInt(i -> i).toArray();
+        return voisins;
     }
 
     /**
@@ -227,9 +973,40 @@ public class AlgorithmesUtilitaires {
      * @return Le nombre de voisins non coloriés.
      */
     public static int degreNonColories(Graphe g, Etiquetage e, int s) {
+        return degreNonColories(e, g.curseur(s));
+    }
+
+    /**
+     * Calcule le degré résiduel d'un sommet sans allocation, en parcourant un curseur déjà
+     * placé sur ce sommet ({@link Graphe.CurseurVoisins#placer(int)}).
+     *
+     * @param e       L'étiquetage actuel.
+     * @param voisins Un curseur placé au début des voisins du sommet.
+     * @return Le nombre de voisins non coloriés.
+     * @see #degreNonColories(Graphe, Etiquetage, int)
+     */
+    static int degreNonColories(Etiquetage e, Graphe.CurseurVoisins voisins) {
         int count = 0;
-        for (Sommet v : g.getVoisins(s)) {
-            if (e.getCouleur(v.getValeur()) == Couleur.AUCUNE) {
+        while (voisins.aSuivant()) {
+            if (e.getNumeroCouleur(voisins.suivant()) == Etiquetage.SANS_COULEUR) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Calcule le degré résiduel d'un sommet d'un graphe figé.
+     *
+     * @param g Le graphe figé.
+     * @param e L'étiquetage actuel.
+     * @param s L'indice du sommet.
+     * @return Le nombre de voisins non coloriés.
+     */
+    public static int degreNonColories(GrapheFige g, Etiquetage e, int s) {
+        int count = 0;
+        for (int k = g.getDebut(s); k < g.getFin(s); k++) {
+            if (e.getNumeroCouleur(g.getCible(k)) == Etiquetage.SANS_COULEUR) {
                 count++;
             }
         }
@@ -243,13 +1020,14 @@ public class AlgorithmesUtilitaires {
      * @return Un tableau d'indices des sommets non coloriés.
      */
     public static int[] nonColories(Etiquetage e) {
-        List<Integer> liste = new ArrayList<>();
+        int[] liste = new int[e.getTaille()];
+        int nb = 0;
         for (int i = 0; i < e.getTaille(); i++) {
-            if (e.getCouleur(i) == Couleur.AUCUNE) {
-                liste.add(i);
+            if (e.getNumeroCouleur(i) == Etiquetage.SANS_COULEUR) {
+                liste[nb++] = i;
             }
         }
-        return liste.stream().mapToInt(i -> i).toArray();
+        return Arrays.copyOf(liste, nb);
     }
 
     /**
@@ -259,58 +1037,121 @@ public class AlgorithmesUtilitaires {
      *    supérieur ou égal à sqrt(n) (où n est le nombre de sommets), l'algorithme sélectionne
      *    un tel sommet, 2-colorie le sous-graphe de ses voisins non coloriés avec deux nouvelles
      *    couleurs, et répète.
-     * 2. Phase gloutonne : Les sommets restants sont coloriés en utilisant un algorithme glouton simple.
+     * 2. Phase gloutonne : Les sommets restants sont coloriés en utilisant un algorithme glouton simple,
+     *    qui évite les couleurs déjà attribuées à leurs voisins.
      *
      * @param g Le graphe à colorier.
      * @return Un {@link Etiquetage} produit par l'algorithme de Wigderson.
      * @throws Exception Si une erreur se produit, notamment lors du 2-coloriage.
      */
     public static Etiquetage wigderson(Graphe g) throws Exception {
+        return wigderson(g.figer());
+    }
+
+    /**
+     * Implémente l'algorithme de Wigderson sur un graphe figé, en O(n + m).
+     *
+     * Les degrés résiduels (nombre de voisins non coloriés) sont rangés dans des
+     * {@link SeauxDegres} et diminués au fil des coloriages : le sommet de plus grand degré
+     * résiduel s'obtient sans reparcourir le graphe. Le voisinage de ce sommet est 2-colorié
+     * sur place, par un parcours en largeur limité aux sommets marqués, sans construire de
+     * sous-graphe. La phase gloutonne finale tient compte des couleurs déjà attribuées.
+     *
+     * @param g Le graphe figé à colorier.
+     * @return Un {@link Etiquetage} produit par l'algorithme de Wigderson.
+     * @throws NonBipartiException Si le voisinage d'un sommet n'est pas biparti
+     *                             (le graphe n'est alors pas 3-coloriable).
+     * @see #wigderson(Graphe)
+     */
+    public static Etiquetage wigderson(GrapheFige g) throws NonBipartiException {
         int n = g.getCompteur();
-        Etiquetage e = new Etiquetage(n);
+        Etiquetage e = g.nouvelEtiquetage();
         int seuil = (int) Math.ceil(Math.sqrt(n));
         int couleurCourante = 1;
 
-        while (true) {
-            int meilleurSommet = -1;
-            int meilleurDegre = -1;
-
-            // Chercher un sommet non colorié de degré résiduel >= seuil
-            for (int s : nonColories(e)) {
-                int deg = degreNonColories(g, e, s);
-                if (deg >= seuil && deg > meilleurDegre) {
-                    meilleurDegre = deg;
-                    meilleurSommet = s;
-                }
-            }
+        int[] degres = new int[n];
+        for (int i = 0; i < n; i++) {
+            degres[i] = g.getDegre(i);
+        }
+        SeauxDegres seaux = new SeauxDegres(degres);
+        int[] voisins = new int[n];
+        int[] file = new int[n];
+        int[] parent = new int[n];
+        int[] tour = new int[n]; // tour[v] == t : v appartient au voisinage traité au tour t
+        int t = 0;
 
-            if (meilleurSommet == -1) {
+        while (true) {
+            // Chercher le sommet non colorié de plus grand degré résiduel, s'il atteint le seuil
+            int s = seaux.sommetMax();
+            if (s == -1 || seaux.getDegre(s) < seuil) {
                 break; // Fin de la phase Wigderson
             }
+            t++;
+            int nb = 0;
+            for (int k = g.getDebut(s); k < g.getFin(s); k++) {
+                int v = g.getCible(k);
+                if (seaux.contient(v)) {
+                    voisins[nb++] = v;
+                    tour[v] = t;
+                }
+            }
 
-            int[] voisins = voisinsNonColories(g, e, meilleurSommet);
-            if (voisins.length == 0) continue;
-
-            Graphe sg = sousGraphe(g, voisins);
-            Etiquetage eLocal = deuxCol(sg);
+            // 2-coloriage sur place du voisinage avec les couleurs couleurCourante et couleurCourante + 1
+            for (int r = 0; r < nb; r++) {
+                int racine = voisins[r];
+                if (e.getNumeroCouleur(racine) != Etiquetage.SANS_COULEUR) {
+                    continue;
+                }
+                e.setNumeroCouleur(racine, couleurCourante);
+                parent[racine] = -1;
+                int tete = 0;
+                int queue = 0;
+                file[queue++] = racine;
 
-            // Intégrer le 2-coloriage avec deux nouvelles couleurs
-            for (int i = 0; i < voisins.length; i++) {
-                Couleur c = eLocal.getCouleur(i);
-                if (c == Couleur.ROUGE) {
-                    e.setCouleur(voisins[i], Couleur.values()[couleurCourante]);
-                } else if (c == Couleur.VERT) {
-                    e.setCouleur(voisins[i], Couleur.values()[couleurCourante + 1]);
+                while (tete < queue) {
+                    int u = file[tete++];
+                    int cu = e.getNumeroCouleur(u);
+                    int autre = cu == couleurCourante ? couleurCourante + 1 : couleurCourante;
+                    for (int k = g.getDebut(u); k < g.getFin(u); k++) {
+                        int w = g.getCible(k);
+                        if (tour[w] != t) {
+                            continue;
+                        }
+                        int cw = e.getNumeroCouleur(w);
+                        if (cw == Etiquetage.SANS_COULEUR) {
+                            e.setNumeroCouleur(w, autre);
+                            parent[w] = u;
+                            file[queue++] = w;
+                        } else if (cw == cu) {
+                            int[] cycle = cycleImpair(parent, u, w);
+                            throw new NonBipartiException("Le voisinage du sommet " + s + " n'est pas biparti : cycle impair de longueur "
+                                    + cycle.length + " détecté.", cycle);
+                        }
+                    }
                 }
             }
             couleurCourante += 2;
+
+            // Mise à jour des degrés résiduels
+            for (int r = 0; r < nb; r++) {
+                seaux.retirer(voisins[r]);
+            }
+            for (int r = 0; r < nb; r++) {
+                int v = voisins[r];
+                for (int k = g.getDebut(v); k < g.getFin(v); k++) {
+                    int w = g.getCible(k);
+                    if (seaux.contient(w)) {
+                        seaux.decrementer(w);
+                    }
+                }
+            }
         }
 
         // Phase gloutonne pour les sommets restants
-        Etiquetage fin = glouton(g, nonColories(e));
+        boolean[] interdit = new boolean[degreMax(g) + 1];
         for (int i = 0; i < n; i++) {
-            if (e.getCouleur(i) == Couleur.AUCUNE) {
-                e.setCouleur(i, fin.getCouleur(i));
+            if (e.getNumeroCouleur(i) == Etiquetage.SANS_COULEUR) {
+                e.setNumeroCouleur(i, minCouleurPossible(g, e, i, interdit) + 1);
             }
         }
 
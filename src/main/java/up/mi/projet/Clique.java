@@ -0,0 +1,408 @@
+package up.mi.projet;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Recherche de grandes cliques, qui fournissent une borne inférieure prouvée du nombre
+ * chromatique : les sommets d'une clique de taille ω reçoivent tous des couleurs différentes,
+ * donc toute coloration utilise au moins ω couleurs.
+ *
+ * Les sommets sont rangés dans l'ordre « plus petit dernier »
+ * ({@link AlgorithmesUtilitaires#triPlusPetitDernier(GrapheFige)}) ; toute clique est alors
+ * contenue dans le voisinage antérieur de son dernier sommet, qui compte au plus d sommets
+ * pour un graphe de dégénérescence d. Chaque voisinage est recopié dans une petite matrice
+ * d'adjacence en bits, où l'intersection d'un ensemble de candidats avec les voisins d'un
+ * sommet traite 64 candidats par opération. Les voisinages sont indépendants et explorés en
+ * parallèle.
+ *
+ * {@link #gloutonne(GrapheFige)} construit une clique par voisinage en ajoutant les candidats
+ * par degré local décroissant. {@link #maximum(GrapheFige, long)} poursuit par une séparation
+ * et évaluation bornée par une coloration gloutonne des candidats, dans un temps limité.
+ */
+public final class Clique {
+
+    private static final int MASQUE_HORLOGE = 1023; // Consultation de l'horloge tous les 1024 nœuds
+    private static final long SANS_ECHEANCE = Long.MAX_VALUE;
+
+    /**
+     * Résultat d'une recherche de clique maximum.
+     */
+    public static final class Resultat {
+
+        private final int[] sommets;
+        private final boolean maximum;
+
+        Resultat(int[] sommets, boolean maximum) {
+            this.sommets = sommets;
+            this.maximum = maximum;
+        }
+
+        /**
+         * @return Les sommets de la plus grande clique trouvée, par indice croissant.
+         */
+        public int[] getSommets() {
+            return sommets.clone();
+        }
+
+        /**
+         * @return La taille de la clique, borne inférieure prouvée du nombre chromatique.
+         */
+        public int getTaille() {
+            return sommets.length;
+        }
+
+        /**
+         * @return {@code true} si la recherche s'est terminée avant l'échéance, auquel cas
+         *         la clique est de taille maximum.
+         */
+        public boolean estMaximum() {
+            return maximum;
+        }
+    }
+
+    private final GrapheFige g;
+    private final int[] ordre;
+    private final int[] rang;
+    private final long echeance;
+    private final AtomicInteger meilleur = new AtomicInteger();
+    private int[] meilleureClique = new int[0];
+    private volatile boolean interrompu;
+
+    private Clique(GrapheFige g, long echeance) {
+        this.g = g;
+        this.ordre = AlgorithmesUtilitaires.triPlusPetitDernier(g);
+        this.rang = new int[ordre.length];
+        for (int p = 0; p < ordre.length; p++) {
+            rang[ordre[p]] = p;
+        }
+        this.echeance = echeance;
+    }
+
+    /**
+     * Construit gloutonnement une grande clique d'un graphe.
+     *
+     * @param g Le graphe.
+     * @return Les sommets de la clique, par indice croissant.
+     * @see #gloutonne(GrapheFige)
+     */
+    public static int[] gloutonne(Graphe g) {
+        return gloutonne(g.figer());
+    }
+
+    /**
+     * Construit gloutonnement une grande clique d'un graphe figé : pour chaque sommet, en
+     * parallèle, on part de ses voisins antérieurs dans l'ordre « plus petit dernier » et on
+     * ajoute par degré local décroissant ceux qui restent adjacents à toute la clique.
+     * Le coût est en O(n · d² log Δ) pour un graphe de dégénérescence d et de degré maximal Δ,
+     * dominé par la construction des matrices locales.
+     *
+     * @param g Le graphe figé.
+     * @return Les sommets de la plus grande clique obtenue, par indice croissant.
+     */
+    public static int[] gloutonne(GrapheFige g) {
+        return gloutonne(g, SANS_ECHEANCE);
+    }
+
+    /**
+     * Construit gloutonnement une grande clique, en s'arrêtant à l'échéance : la clique renvoyée
+     * est alors la meilleure trouvée jusque-là, éventuellement vide.
+     *
+     * @param g        Le graphe figé.
+     * @param echeance L'échéance, en nanosecondes ({@link System#nanoTime()}).
+     * @return Les sommets de la plus grande clique obtenue, par indice croissant.
+     * @see #gloutonne(GrapheFige)
+     */
+    static int[] gloutonne(GrapheFige g, long echeance) {
+        Clique recherche = new Clique(g, echeance);
+        recherche.gloutonne();
+        return recherche.meilleureClique();
+    }
+
+    /**
+     * Cherche une clique de taille maximum dans un temps limité.
+     *
+     * @param g            Le graphe.
+     * @param budgetMillis Le temps maximal de recherche exacte, en millisecondes.
+     * @return La plus grande clique trouvée, et si elle est prouvée maximum.
+     * @see #maximum(GrapheFige, long)
+     */
+    public static Resultat maximum(Graphe g, long budgetMillis) {
+        return maximum(g.figer(), budgetMillis);
+    }
+
+    /**
+     * Cherche une clique de taille maximum d'un graphe figé dans un temps limité. La clique
+     * gloutonne sert de borne initiale ; chaque voisinage est ensuite exploré exhaustivement
+     * en élaguant toute branche dont la coloration gloutonne des candidats ne permet pas de
+     * dépasser la meilleure clique connue, partagée par tous les threads. À l'échéance, la
+     * meilleure clique trouvée reste une borne inférieure valide. Le budget couvre aussi la
+     * phase gloutonne : l'horloge est consultée avant chaque voisinage, à chaque ligne de sa
+     * matrice locale, puis tous les 1024 nœuds de la recherche dans un même voisinage.
+     *
+     * @param g            Le graphe figé.
+     * @param budgetMillis Le temps maximal de recherche, en millisecondes ; 0 se limite à la
+     *                     clique gloutonne, calculée entièrement sans limite de temps.
+     * @return La plus grande clique trouvée, et si elle est prouvée maximum.
+     */
+    public static Resultat maximum(GrapheFige g, long budgetMillis) {
+        long echeance = budgetMillis > 0 ? System.nanoTime() + budgetMillis * 1_000_000L : SANS_ECHEANCE;
+        Clique recherche = new Clique(g, echeance);
+        recherche.gloutonne();
+        if (budgetMillis > 0) {
+            IntStream.range(0, g.getCompteur()).parallel().forEach(p -> {
+                if (!recherche.echeanceDepassee()) {
+                    Voisinage voisinage = recherche.new Voisinage(recherche.ordre[p]);
+                    if (voisinage.taille + 1 > recherche.meilleur.get()) {
+                        voisinage.explorer();
+                    }
+                }
+            });
+        }
+        int[] clique = recherche.meilleureClique();
+        if (clique.length == 0 && g.getCompteur() > 0) {
+            clique = new int[] { 0 }; // Interrompu avant tout voisinage : un sommet seul reste une clique
+        }
+        return new Resultat(clique, budgetMillis > 0 && !recherche.interrompu);
+    }
+
+    /**
+     * Vérifie une coloration et l'accompagne de la taille d'une clique du graphe.
+     *
+     * @param g            Le graphe.
+     * @param e            L'étiquetage à évaluer.
+     * @param budgetMillis Le temps maximal de recherche exacte de la clique, en millisecondes.
+     * @return Le {@link RapportColoration} de l'étiquetage, avec sa borne inférieure.
+     * @see #evaluer(GrapheFige, Etiquetage, long)
+     */
+    public static RapportColoration evaluer(Graphe g, Etiquetage e, long budgetMillis) {
+        return evaluer(g.figer(), e, budgetMillis);
+    }
+
+    /**
+     * Vérifie une coloration d'un graphe figé et l'accompagne de la taille de la plus grande
+     * clique trouvée par {@link #maximum(GrapheFige, long)}, ce qui permet de lire l'écart à
+     * l'optimum dans {@link RapportColoration#getEcart()}.
+     *
+     * @param g            Le graphe figé.
+     * @param e            L'étiquetage à évaluer.
+     * @param budgetMillis Le temps maximal de recherche exacte de la clique, en millisecondes.
+     * @return Le {@link RapportColoration} de l'étiquetage, avec sa borne inférieure.
+     * @throws IllegalArgumentException Si l'étiquetage ne couvre pas tous les sommets.
+     */
+    public static RapportColoration evaluer(GrapheFige g, Etiquetage e, long budgetMillis) {
+        RapportColoration rapport = AlgorithmesUtilitaires.verifier(g, e);
+        return rapport.avecBorneInferieure(maximum(g, budgetMillis).getTaille());
+    }
+
+    private void gloutonne() {
+        IntStream.range(0, g.getCompteur()).parallel().forEach(p -> {
+            if (echeanceDepassee()) {
+                return;
+            }
+            Voisinage voisinage = new Voisinage(ordre[p]);
+            if (voisinage.taille + 1 > meilleur.get()) {
+                voisinage.gloutonne();
+            }
+        });
+    }
+
+    /**
+     * Consulte l'horloge, sauf en l'absence d'échéance, et interrompt la recherche si
+     * l'échéance est passée.
+     *
+     * @return {@code true} si la recherche est interrompue.
+     */
+    private boolean echeanceDepassee() {
+        if (!interrompu && echeance != SANS_ECHEANCE && System.nanoTime() - echeance > 0) {
+            interrompu = true;
+        }
+        return interrompu;
+    }
+
+    private synchronized void ameliorer(int[] clique) {
+        if (clique.length > meilleur.get()) {
+            Arrays.sort(clique);
+            meilleureClique = clique;
+            meilleur.set(clique.length);
+        }
+    }
+
+    private synchronized int[] meilleureClique() {
+        return meilleureClique;
+    }
+
+    /**
+     * Voisins antérieurs d'un sommet dans l'ordre « plus petit dernier », avec leur matrice
+     * d'adjacence en bits. Les candidats sont désignés par leur position locale.
+     */
+    private final class Voisinage {
+
+        final int sommet;
+        final int[] candidats; // Indices globaux, croissants
+        final int taille;
+        final int mots;
+        final long[][] lignes;
+        final int[] clique; // Positions locales de la clique en cours
+        int noeuds;
+
+        Voisinage(int sommet) {
+            this.sommet = sommet;
+            int[] voisins = new int[g.getDegre(sommet)];
+            int d = 0;
+            for (int k = g.getDebut(sommet); k < g.getFin(sommet); k++) {
+                int w = g.getCible(k);
+                if (rang[w] < rang[sommet]) {
+                    voisins[d++] = w;
+                }
+            }
+            this.candidats = voisins;
+            this.taille = d;
+            this.mots = (d + 63) >>> 6;
+            this.lignes = new long[d][];
+            this.clique = new int[d];
+        }
+
+        /**
+         * Construit la matrice d'adjacence locale en testant chaque paire de candidats, par
+         * recherche dichotomique dans la liste du moins connecté des deux : O(d² log Δ), quel
+         * que soit le degré des candidats dans le graphe entier. Elle n'est calculée que pour
+         * les voisinages assez grands pour améliorer la meilleure clique.
+         *
+         * @return {@code false} si l'échéance est passée avant la fin de la construction.
+         */
+        private boolean remplir() {
+            for (int a = 0; a < taille; a++) {
+                lignes[a] = new long[mots];
+            }
+            for (int a = 0; a < taille; a++) {
+                if (echeanceDepassee()) {
+                    return false;
+                }
+                int u = candidats[a];
+                for (int b = a + 1; b < taille; b++) {
+                    int w = candidats[b];
+                    if (g.getDegre(u) <= g.getDegre(w) ? g.estAdjacent(u, w) : g.estAdjacent(w, u)) {
+                        lignes[a][b >>> 6] |= 1L << b;
+                        lignes[b][a >>> 6] |= 1L << a;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private long[] tous() {
+            long[] p = new long[mots];
+            for (int w = 0; w < mots; w++) {
+                p[w] = -1L;
+            }
+            if ((taille & 63) != 0) {
+                p[mots - 1] = (1L << taille) - 1;
+            }
+            return p;
+        }
+
+        void gloutonne() {
+            if (!remplir()) {
+                return;
+            }
+            int[] degres = new int[taille];
+            for (int a = 0; a < taille; a++) {
+                for (long mot : lignes[a]) {
+                    degres[a] += Long.bitCount(mot);
+                }
+            }
+            long[] p = tous();
+            int t = 0;
+            for (int a : AlgorithmesUtilitaires.triDenombrementDecroissant(degres)) {
+                if ((p[a >>> 6] & (1L << a)) != 0) {
+                    clique[t++] = a;
+                    for (int w = 0; w < mots; w++) {
+                        p[w] &= lignes[a][w];
+                    }
+                }
+            }
+            enregistrer(t);
+        }
+
+        void explorer() {
+            if (remplir()) {
+                etendre(0, tous());
+            }
+        }
+
+        /**
+         * Étend la clique {@code clique[0..t)} avec les candidats de {@code p}. Les candidats
+         * sont coloriés gloutonnement : ceux de la couleur c ne peuvent mener qu'à une clique
+         * de t + c sommets locaux au plus, ce qui élague la branche quand ce n'est pas assez.
+         */
+        private void etendre(int t, long[] p) {
+            if (interrompu) {
+                return;
+            }
+            if ((++noeuds & MASQUE_HORLOGE) == 0 && System.nanoTime() - echeance > 0) {
+                interrompu = true;
+                return;
+            }
+
+            int[] ordreLocal = new int[taille];
+            int[] bornes = new int[taille];
+            int nb = 0;
+            long[] restants = p.clone();
+            long[] classe = new long[mots];
+            for (int c = 1; nb < taille; c++) {
+                System.arraycopy(restants, 0, classe, 0, mots);
+                boolean vide = true;
+                for (int w = 0; w < mots; w++) {
+                    while (classe[w] != 0) {
+                        vide = false;
+                        int a = (w << 6) + Long.numberOfTrailingZeros(classe[w]);
+                        restants[w] &= ~(1L << a);
+                        for (int x = 0; x < mots; x++) {
+                            classe[x] &= ~lignes[a][x];
+                        }
+                        classe[w] &= ~(1L << a);
+                        ordreLocal[nb] = a;
+                        bornes[nb++] = c;
+                    }
+                }
+                if (vide) {
+                    break;
+                }
+            }
+
+            for (int i = nb - 1; i >= 0; i--) {
+                // Le sommet du voisinage s'ajoute aux t + 1 + bornes[i] - 1 sommets locaux possibles
+                if (1 + t + bornes[i] <= meilleur.get() || interrompu) {
+                    return;
+                }
+                int a = ordreLocal[i];
+                clique[t] = a;
+                long[] fils = new long[mots];
+                boolean vide = true;
+                for (int w = 0; w < mots; w++) {
+                    fils[w] = p[w] & lignes[a][w];
+                    vide &= fils[w] == 0;
+                }
+                if (vide) {
+                    enregistrer(t + 1);
+                } else {
+                    etendre(t + 1, fils);
+                }
+                p[a >>> 6] &= ~(1L << a);
+            }
+        }
+
+        private void enregistrer(int t) {
+            if (t + 1 > meilleur.get()) {
+                int[] trouvee = new int[t + 1];
+                trouvee[0] = sommet;
+                for (int k = 0; k < t; k++) {
+                    trouvee[k + 1] = candidats[clique[k]];
+                }
+                ameliorer(trouvee);
+            }
+        }
+    }
+}
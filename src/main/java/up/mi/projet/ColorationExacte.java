@@ -0,0 +1,374 @@
+package up.mi.projet;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Calcule le nombre chromatique d'un graphe par séparation et évaluation (« branch and bound »)
+ * guidée par DSATUR, en parallèle sur un {@link ForkJoinPool}.
+ *
+ * La recherche colorie à chaque nœud le sommet non colorié de plus grande saturation, avec
+ * chacune des couleurs déjà ouvertes puis une nouvelle couleur, tant que le nombre de couleurs
+ * reste inférieur à la meilleure solution connue. Cette borne est partagée par tous les threads
+ * dans un {@link AtomicInteger} : une amélioration trouvée par l'un élague immédiatement les
+ * branches des autres. Un nœud est découpé en sous-tâches tant que la file du thread courant
+ * contient peu de tâches à voler ; en dessous, l'exploration est séquentielle et modifie l'état
+ * sur place. Une sous-tâche ne reçoit qu'une copie de la coloration partielle, en O(n) : elle
+ * reconstruit compteurs et seaux lorsqu'elle s'exécute, sur le thread qui l'a prise.
+ *
+ * Les sommets non coloriés sont rangés dans un seau par saturation, ensemble de bits indexé par
+ * le rang du sommet dans l'ordre des degrés décroissants : un changement de saturation déplace
+ * un bit en O(1), et le sommet choisi (plus grande saturation, puis plus grand degré) est le
+ * premier bit du seau non vide le plus haut, trouvé en O(k + n / 64).
+ *
+ * La solution initiale est celle de {@link AlgorithmesUtilitaires#dsatur(GrapheFige)} ; une
+ * clique trouvée gloutonnement ({@link Clique#gloutonne(GrapheFige)}) fournit la borne inférieure et fixe les couleurs de ses sommets,
+ * ce qui élimine les permutations de couleurs équivalentes.
+ */
+public final class ColorationExacte {
+
+    private static final int SURPLUS_MAX = 3; // Tâches en attente au-delà desquelles on ne découpe plus
+    private static final int MASQUE_HORLOGE = 1023; // Consultation de l'horloge tous les 1024 nœuds
+
+    /**
+     * Résultat d'une résolution : la meilleure coloration trouvée et une borne inférieure prouvée
+     * du nombre chromatique.
+     */
+    public static final class Resultat {
+
+        private final Etiquetage etiquetage;
+        private final int nombreCouleurs;
+        private final int borneInferieure;
+
+        Resultat(Etiquetage etiquetage, int nombreCouleurs, int borneInferieure) {
+            this.etiquetage = etiquetage;
+            this.nombreCouleurs = nombreCouleurs;
+            this.borneInferieure = borneInferieure;
+        }
+
+        /**
+         * @return La meilleure coloration trouvée (toujours propre).
+         */
+        public Etiquetage getEtiquetage() {
+            return etiquetage;
+        }
+
+        /**
+         * @return Le nombre de couleurs de la meilleure coloration, borne supérieure du nombre chromatique.
+         */
+        public int getNombreCouleurs() {
+            return nombreCouleurs;
+        }
+
+        /**
+         * @return Une borne inférieure prouvée du nombre chromatique.
+         */
+        public int getBorneInferieure() {
+            return borneInferieure;
+        }
+
+        /**
+         * @return {@code true} si la coloration est optimale, c'est-à-dire si les deux bornes coïncident.
+         */
+        public boolean estOptimal() {
+            return nombreCouleurs == borneInferieure;
+        }
+
+        /**
+         * @return L'écart entre le nombre de couleurs et la borne inférieure, nul si la coloration est optimale.
+         */
+        public int getEcart() {
+            return nombreCouleurs - borneInferieure;
+        }
+    }
+
+    private final GrapheFige g;
+    private final int n;
+    private final int mots; // Mots de 64 bits d'un seau
+    private final int[] parRang; // Sommets par degré décroissant, puis indice croissant
+    private final int[] rangs; // Rang de chaque sommet dans parRang
+    private final int largeur; // Couleurs 1 à largeur - 1 possibles dans la recherche
+    private final long echeance;
+    private final AtomicInteger meilleur;
+    private int[] meilleureColoration;
+    private volatile boolean interrompu;
+
+    private ColorationExacte(GrapheFige g, int[] initiale, int nombreCouleurs, long echeance) {
+        this.g = g;
+        this.n = g.getCompteur();
+        this.mots = (n + 63) >>> 6;
+        this.parRang = AlgorithmesUtilitaires.triDegre(g);
+        this.rangs = new int[n];
+        for (int r = 0; r < n; r++) {
+            rangs[parRang[r]] = r;
+        }
+        this.largeur = nombreCouleurs + 1;
+        this.echeance = echeance;
+        this.meilleur = new AtomicInteger(nombreCouleurs);
+        this.meilleureColoration = initiale;
+    }
+
+    /**
+     * Calcule le nombre chromatique d'un graphe dans un temps limité, sur le pool commun.
+     *
+     * @param g            Le graphe à colorier.
+     * @param budgetMillis Le temps maximal de recherche, en millisecondes.
+     * @return La meilleure coloration trouvée et la borne inférieure prouvée.
+     */
+    public static Resultat resoudre(Graphe g, long budgetMillis) {
+        return resoudre(g.figer(), budgetMillis);
+    }
+
+    /**
+     * Calcule le nombre chromatique d'un graphe figé dans un temps limité, sur le pool commun.
+     *
+     * @param g            Le graphe figé à colorier.
+     * @param budgetMillis Le temps maximal de recherche, en millisecondes.
+     * @return La meilleure coloration trouvée et la borne inférieure prouvée.
+     */
+    public static Resultat resoudre(GrapheFige g, long budgetMillis) {
+        return resoudre(g, budgetMillis, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calcule le nombre chromatique d'un graphe figé dans un temps limité.
+     * Si la recherche se termine avant l'échéance, la coloration renvoyée est optimale ;
+     * sinon, la borne inférieure est la taille de la clique initiale.
+     *
+     * @param g            Le graphe figé à colorier.
+     * @param budgetMillis Le temps maximal de recherche, en millisecondes.
+     * @param pool         Le pool de threads qui exécute la recherche.
+     * @return La meilleure coloration trouvée et la borne inférieure prouvée.
+     */
+    public static Resultat resoudre(GrapheFige g, long budgetMillis, ForkJoinPool pool) {
+        long echeance = System.nanoTime() + budgetMillis * 1_000_000L;
+        int n = g.getCompteur();
+
+        // Solution initiale sur le tas : elle n'est que recopiée dans la recherche
+        Etiquetage dsatur = AlgorithmesUtilitaires.dsatur(g, new Etiquetage(n));
+        int[] initiale = new int[n];
+        for (int i = 0; i < n; i++) {
+            initiale[i] = dsatur.getNumeroCouleur(i);
+        }
+        int[] clique = Clique.gloutonne(g);
+        int borne = clique.length;
+
+        ColorationExacte recherche = new ColorationExacte(g, initiale, dsatur.getNombreCouleurs(), echeance);
+        if (borne < recherche.meilleur.get()) {
+            int[] couleurs = new int[n];
+            for (int k = 0; k < clique.length; k++) {
+                couleurs[clique[k]] = k + 1;
+            }
+            pool.invoke(recherche.new Recherche(couleurs, clique.length, clique.length, 0));
+        }
+
+        int nombreCouleurs = recherche.meilleur.get();
+        Etiquetage e = g.nouvelEtiquetage();
+        int[] meilleure = recherche.meilleureColoration();
+        for (int i = 0; i < n; i++) {
+            e.setNumeroCouleur(i, meilleure[i]);
+        }
+        return new Resultat(e, nombreCouleurs, recherche.interrompu ? borne : nombreCouleurs);
+    }
+
+    private synchronized void ameliorer(int[] couleurs, int nombreCouleurs) {
+        if (nombreCouleurs < meilleur.get()) {
+            meilleureColoration = couleurs.clone();
+            meilleur.set(nombreCouleurs);
+        }
+    }
+
+    private synchronized int[] meilleureColoration() {
+        return meilleureColoration;
+    }
+
+    /**
+     * État d'un nœud de la recherche : la coloration partielle, pour chaque sommet le nombre
+     * de voisins de chaque couleur et sa saturation, et les seaux des sommets non coloriés.
+     */
+    private final class Etat {
+
+        final int[] couleurs;
+        final int[] saturation;
+        final int[] compte; // compte[v * largeur + c] : voisins de v ayant la couleur c
+        final long[] seaux; // Bit rang de v dans le seau saturation[v], pour v non colorié
+        final int[] effectifs; // Nombre de sommets de chaque seau
+        int noeuds;
+
+        /**
+         * Reconstruit l'état d'une coloration partielle, en O(n + m).
+         *
+         * @param couleurs La coloration partielle, reprise sans copie.
+         */
+        Etat(int[] couleurs) {
+            this.couleurs = couleurs;
+            saturation = new int[n];
+            compte = new int[n * largeur];
+            seaux = new long[largeur * mots];
+            effectifs = new int[largeur];
+            for (int v = 0; v < n; v++) {
+                int c = couleurs[v];
+                if (c == Etiquetage.SANS_COULEUR) {
+                    continue;
+                }
+                for (int k = g.getDebut(v); k < g.getFin(v); k++) {
+                    int w = g.getCible(k);
+                    if (compte[w * largeur + c]++ == 0) {
+                        saturation[w]++;
+                    }
+                }
+            }
+            for (int v = 0; v < n; v++) {
+                if (couleurs[v] == Etiquetage.SANS_COULEUR) {
+                    basculer(v);
+                    effectifs[saturation[v]]++;
+                }
+            }
+        }
+
+        /**
+         * Ajoute ou retire le bit de v dans le seau de sa saturation actuelle.
+         */
+        private void basculer(int v) {
+            int r = rangs[v];
+            seaux[saturation[v] * mots + (r >>> 6)] ^= 1L << r;
+        }
+
+        /**
+         * @return Le sommet non colorié de plus grande saturation, puis de plus grand degré.
+         */
+        int choisir() {
+            int s = largeur - 1;
+            while (effectifs[s] == 0) {
+                s--;
+            }
+            int w = s * mots;
+            while (seaux[w] == 0) {
+                w++;
+            }
+            return parRang[((w - s * mots) << 6) + Long.numberOfTrailingZeros(seaux[w])];
+        }
+
+        void colorer(int v, int c) {
+            basculer(v);
+            effectifs[saturation[v]]--;
+            couleurs[v] = c;
+            for (int k = g.getDebut(v); k < g.getFin(v); k++) {
+                int w = g.getCible(k);
+                if (compte[w * largeur + c]++ == 0) {
+                    if (couleurs[w] == Etiquetage.SANS_COULEUR) {
+                        basculer(w);
+                        effectifs[saturation[w]]--;
+                        saturation[w]++;
+                        basculer(w);
+                        effectifs[saturation[w]]++;
+                    } else {
+                        saturation[w]++;
+                    }
+                }
+            }
+        }
+
+        void decolorer(int v, int c) {
+            couleurs[v] = Etiquetage.SANS_COULEUR;
+            for (int k = g.getDebut(v); k < g.getFin(v); k++) {
+                int w = g.getCible(k);
+                if (--compte[w * largeur + c] == 0) {
+                    if (couleurs[w] == Etiquetage.SANS_COULEUR) {
+                        basculer(w);
+                        effectifs[saturation[w]]--;
+                        saturation[w]--;
+                        basculer(w);
+                        effectifs[saturation[w]]++;
+                    } else {
+                        saturation[w]--;
+                    }
+                }
+            }
+            basculer(v);
+            effectifs[saturation[v]]++;
+        }
+    }
+
+    /**
+     * Tâche qui explore le sous-arbre de recherche issu d'une coloration partielle.
+     */
+    private final class Recherche extends RecursiveAction {
+
+        private final int[] couleurs;
+        private final int nbColories;
+        private final int maxUtilise;
+        private final int noeuds;
+
+        Recherche(int[] couleurs, int nbColories, int maxUtilise, int noeuds) {
+            this.couleurs = couleurs;
+            this.nbColories = nbColories;
+            this.maxUtilise = maxUtilise;
+            this.noeuds = noeuds;
+        }
+
+        @Override
+        protected void compute() {
+            Etat etat = new Etat(couleurs);
+            etat.noeuds = noeuds;
+            explorer(etat, nbColories, maxUtilise);
+        }
+
+        private void explorer(Etat etat, int nbColories, int maxUtilise) {
+            if (interrompu) {
+                return;
+            }
+            if ((++etat.noeuds & MASQUE_HORLOGE) == 0 && System.nanoTime() - echeance > 0) {
+                interrompu = true;
+                return;
+            }
+            if (maxUtilise >= meilleur.get()) {
+                return;
+            }
+            if (nbColories == n) {
+                ameliorer(etat.couleurs, maxUtilise);
+                return;
+            }
+
+            // Sommet non colorié de plus grande saturation, puis de plus grand degré
+            int v = etat.choisir();
+
+            // Une solution doit utiliser strictement moins de couleurs que la meilleure connue ;
+            // toutes les couleurs déjà utilisées sont au plus égales à la limite
+            int limite = Math.min(maxUtilise + 1, meilleur.get() - 1);
+            if (etat.saturation[v] >= limite) {
+                return;
+            }
+
+            if (ForkJoinTask.getSurplusQueuedTaskCount() < SURPLUS_MAX && n - nbColories > 1) {
+                // Les sous-arbres découpés peuvent être trop courts pour atteindre le masque
+                if (System.nanoTime() - echeance > 0) {
+                    interrompu = true;
+                    return;
+                }
+                int nbTaches = 0;
+                Recherche[] taches = new Recherche[limite];
+                for (int c = 1; c <= limite; c++) {
+                    if (etat.compte[v * largeur + c] == 0) {
+                        int[] fils = etat.couleurs.clone();
+                        fils[v] = c;
+                        taches[nbTaches++] = new Recherche(fils, nbColories + 1, Math.max(maxUtilise, c), etat.noeuds);
+                    }
+                }
+                invokeAll(Arrays.asList(taches).subList(0, nbTaches));
+                return;
+            }
+
+            for (int c = 1; c <= Math.min(maxUtilise + 1, meilleur.get() - 1); c++) {
+                if (etat.compte[v * largeur + c] == 0) {
+                    etat.colorer(v, c);
+                    explorer(etat, nbColories + 1, Math.max(maxUtilise, c));
+                    etat.decolorer(v, c);
+                }
+            }
+        }
+    }
+}
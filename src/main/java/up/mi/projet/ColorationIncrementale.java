@@ -0,0 +1,168 @@
+package up.mi.projet;
+
+import java.util.Arrays;
+
+/**
+ * Maintient une coloration propre d'un graphe pendant l'ajout d'arêtes, sans relancer
+ * d'algorithme complet.
+ *
+ * Une arête ajoutée entre deux sommets de couleurs différentes ne change rien. Si les deux
+ * extrémités ont la même couleur, une réparation locale est tentée, dans cet ordre :
+ * <ol>
+ *     <li>recolorier une extrémité avec {@link AlgorithmesUtilitaires#minCouleurPossible(Graphe, Etiquetage, int)},
+ *     si cette couleur est déjà utilisée ;</li>
+ *     <li>échanger les couleurs a et b d'une chaîne de Kempe (composante du sous-graphe des
+ *     sommets coloriés a ou b) qui contient tous les voisins de couleur a d'une extrémité, afin
+ *     que celle-ci garde sa couleur a sans conflit ; la chaîne est limitée à
+ *     {@value #LIMITE_KEMPE} sommets ;</li>
+ *     <li>à défaut, donner une nouvelle couleur à une extrémité.</li>
+ * </ol>
+ * Le coût d'un ajout dépend donc du voisinage des extrémités, pas de la taille du graphe.
+ */
+public final class ColorationIncrementale {
+
+    /**
+     * Nombre maximal de sommets d'une chaîne de Kempe échangée.
+     */
+    public static final int LIMITE_KEMPE = 256;
+
+    private final Graphe g;
+    private final Etiquetage e;
+    private final int[] chaine = new int[LIMITE_KEMPE];
+    private int[] marques = new int[0];
+    private int tampon; // Marque du parcours courant
+    private Graphe.CurseurVoisins curseur; // Réutilisé par chaque ajout, créé au premier besoin
+    private boolean[] interdit = new boolean[0]; // Tableau de travail de minCouleurPossible
+    private int nombreCouleurs;
+
+    /**
+     * Associe un graphe et une coloration propre de ce graphe.
+     * Toutes les modifications d'arêtes doivent ensuite passer par cet objet.
+     *
+     * @param g Le graphe.
+     * @param e Une coloration propre du graphe, couvrant tous ses sommets ; elle est modifiée sur place.
+     */
+    public ColorationIncrementale(Graphe g, Etiquetage e) {
+        this.g = g;
+        this.e = e;
+        this.nombreCouleurs = e.getNombreCouleurs();
+    }
+
+    /**
+     * @return Le graphe.
+     */
+    public Graphe getGraphe() {
+        return g;
+    }
+
+    /**
+     * @return La coloration maintenue.
+     */
+    public Etiquetage getEtiquetage() {
+        return e;
+    }
+
+    /**
+     * Ajoute une arête au graphe et répare la coloration si nécessaire.
+     *
+     * @param i L'indice du premier sommet.
+     * @param j L'indice du second sommet.
+     * @throws IllegalArgumentException Si les indices sont invalides, identiques, ou hors de l'étiquetage.
+     */
+    public void ajouterArrete(int i, int j) throws IllegalArgumentException {
+        if (i >= e.getTaille() || j >= e.getTaille()) {
+            throw new IllegalArgumentException("L'étiquetage ne couvre pas les sommets " + i + " et " + j + ".");
+        }
+        g.ajouterArrete(i, j);
+        int a = e.getNumeroCouleur(i);
+        if (a == Etiquetage.SANS_COULEUR || a != e.getNumeroCouleur(j)) {
+            return;
+        }
+
+        // Extrémité de plus petit degré d'abord : son voisinage est le moins contraint
+        int premier = g.getDegre(i) <= g.getDegre(j) ? i : j;
+        int second = premier == i ? j : i;
+
+        for (int s : new int[] { premier, second }) {
+            if (interdit.length <= g.getDegre(s)) {
+                interdit = new boolean[Math.max(g.getDegre(s) + 1, 2 * interdit.length)];
+            }
+            int c = AlgorithmesUtilitaires.minCouleurPossible(g, e, s, curseur(s), interdit) + 1;
+            if (c <= nombreCouleurs) {
+                e.setNumeroCouleur(s, c);
+                return;
+            }
+        }
+        for (int s : new int[] { premier, second }) {
+            for (int b = 1; b <= nombreCouleurs; b++) {
+                if (b != a && echangerKempe(s, a, b)) {
+                    return;
+                }
+            }
+        }
+        nombreCouleurs++;
+        e.setNumeroCouleur(premier, nombreCouleurs);
+    }
+
+    /**
+     * Échange les couleurs a et b de la chaîne de Kempe qui contient les voisins de couleur a
+     * du sommet {@code s}, dans le graphe privé de {@code s}. L'échange n'a lieu que si la chaîne
+     * ne contient aucun voisin de {@code s} de couleur b (il prendrait la couleur a) et compte au
+     * plus {@link #LIMITE_KEMPE} sommets.
+     *
+     * @return {@code true} si l'échange a eu lieu ; {@code s} n'a alors plus de voisin de couleur a.
+     */
+    private boolean echangerKempe(int s, int a, int b) {
+        if (marques.length < g.getCompteur()) {
+            marques = Arrays.copyOf(marques, Math.max(g.getCompteur(), 2 * marques.length));
+        }
+        if (++tampon == Integer.MAX_VALUE) {
+            Arrays.fill(marques, 0);
+            tampon = 1;
+        }
+        marques[s] = tampon;
+        int taille = 0;
+
+        Graphe.CurseurVoisins curseur = curseur(s);
+        while (curseur.aSuivant()) {
+            int v = curseur.suivant();
+            if (e.getNumeroCouleur(v) == a) {
+                if (taille == LIMITE_KEMPE) {
+                    return false;
+                }
+                marques[v] = tampon;
+                chaine[taille++] = v;
+            }
+        }
+
+        for (int tete = 0; tete < taille; tete++) {
+            curseur.placer(chaine[tete]);
+            while (curseur.aSuivant()) {
+                int w = curseur.suivant();
+                int cw = e.getNumeroCouleur(w);
+                if (marques[w] == tampon || (cw != a && cw != b)) {
+                    continue;
+                }
+                if (taille == LIMITE_KEMPE || (cw == b && g.estAdjacent(w, s))) {
+                    return false;
+                }
+                marques[w] = tampon;
+                chaine[taille++] = w;
+            }
+        }
+
+        for (int k = 0; k < taille; k++) {
+            int v = chaine[k];
+            e.setNumeroCouleur(v, e.getNumeroCouleur(v) == a ? b : a);
+        }
+        return true;
+    }
+
+    /**
+     * @return Le curseur de cet objet, placé sur les voisins de {@code s}.
+     */
+    private Graphe.CurseurVoisins curseur(int s) {
+        curseur = curseur == null ? g.curseur(s) : curseur.placer(s);
+        return curseur;
+    }
+}
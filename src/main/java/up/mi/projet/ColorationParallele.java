@@ -0,0 +1,220 @@
+package up.mi.projet;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+/**
+ * Algorithmes de coloration exécutés en parallèle sur la vue CSR d'un graphe, à l'aide des
+ * flux parallèles ({@link IntStream#parallel()}) et donc du pool commun fork/join.
+ *
+ * Les couleurs sont calculées dans un tableau d'entiers, puis recopiées dans un
+ * {@link Etiquetage} créé par {@link GrapheFige#nouvelEtiquetage()}.
+ */
+public final class ColorationParallele {
+
+    private static final int SEUIL_SEQUENTIEL = 1024; // En deçà, le tour se fait sans parallélisme
+    private static final int BLOCS_PAR_THREAD = 4;
+
+    /**
+     * Résultat d'une coloration parallèle : la coloration et le nombre de tours effectués.
+     */
+    public static final class Resultat {
+
+        private final Etiquetage etiquetage;
+        private final int nombreTours;
+
+        Resultat(Etiquetage etiquetage, int nombreTours) {
+            this.etiquetage = etiquetage;
+            this.nombreTours = nombreTours;
+        }
+
+        /**
+         * @return La coloration obtenue.
+         */
+        public Etiquetage getEtiquetage() {
+            return etiquetage;
+        }
+
+        /**
+         * @return Le nombre de tours synchronisés qu'il a fallu pour colorier tous les sommets.
+         */
+        public int getNombreTours() {
+            return nombreTours;
+        }
+    }
+
+    private ColorationParallele() {
+    }
+
+    /**
+     * Colorie un graphe avec l'algorithme de Jones-Plassmann.
+     *
+     * @param g      Le graphe à colorier.
+     * @param graine La graine des priorités aléatoires.
+     * @return La coloration et le nombre de tours.
+     */
+    public static Resultat jonesPlassmann(Graphe g, long graine) {
+        return jonesPlassmann(g.figer(), graine);
+    }
+
+    /**
+     * Colorie un graphe figé avec l'algorithme de Jones-Plassmann.
+     *
+     * Chaque sommet reçoit une priorité aléatoire (les égalités sont départagées par l'indice).
+     * À chaque tour, les sommets non coloriés dont la priorité dépasse celle de tous leurs voisins
+     * non coloriés forment un ensemble indépendant : ils sont d'abord sélectionnés en parallèle,
+     * puis coloriés en parallèle avec la plus petite couleur absente de leur voisinage. Séparer
+     * les deux phases garantit qu'aucun sommet ne se sélectionne en voyant un voisin colorié
+     * pendant le même tour. Le résultat est déterministe pour une graine donnée.
+     *
+     * @param g      Le graphe figé à colorier.
+     * @param graine La graine des priorités aléatoires.
+     * @return La coloration et le nombre de tours.
+     */
+    public static Resultat jonesPlassmann(GrapheFige g, long graine) {
+        int n = g.getCompteur();
+        int[] couleurs = new int[n];
+        int[] priorites = new SplittableRandom(graine).ints(n).toArray();
+        int[] actifs = IntStream.range(0, n).toArray();
+        int tours = 0;
+
+        while (actifs.length > 0) {
+            int[] courants = actifs;
+            int[] choisis = IntStream.of(courants).parallel()
+                    .filter(v -> estMaximumLocal(g, couleurs, priorites, v))
+                    .toArray();
+            IntStream.of(choisis).parallel()
+                    .forEach(v -> couleurs[v] = plusPetiteCouleurLibre(g, couleurs, v));
+            actifs = IntStream.of(courants).parallel()
+                    .filter(v -> couleurs[v] == Etiquetage.SANS_COULEUR)
+                    .toArray();
+            tours++;
+        }
+
+        Etiquetage e = g.nouvelEtiquetage();
+        for (int i = 0; i < n; i++) {
+            e.setNumeroCouleur(i, couleurs[i]);
+        }
+        return new Resultat(e, tours);
+    }
+
+    /**
+     * Colorie un graphe avec l'algorithme glouton spéculatif de Gebremedhin et Manne.
+     *
+     * @param g   Le graphe à colorier.
+     * @param num Un tableau d'entiers spécifiant l'ordre de traitement des sommets.
+     * @return La coloration et le nombre de tours.
+     * @see #gloutonSpeculatif(GrapheFige, int[])
+     */
+    public static Resultat gloutonSpeculatif(Graphe g, int[] num) {
+        return gloutonSpeculatif(g.figer(), num);
+    }
+
+    /**
+     * Colorie un graphe figé avec l'algorithme glouton spéculatif de Gebremedhin et Manne,
+     * équivalent parallèle de {@link AlgorithmesUtilitaires#glouton(GrapheFige, int[])}.
+     *
+     * L'ordre {@code num} est découpé en blocs contigus, coloriés en parallèle : dans chaque bloc,
+     * les sommets sont traités dans l'ordre, avec la plus petite couleur absente de leur voisinage
+     * tel qu'il est vu à cet instant. Les écritures se font sans verrou dans un tableau d'entiers,
+     * si bien que deux voisins traités au même moment par deux threads peuvent recevoir la même
+     * couleur. Une passe parallèle détecte ensuite ces conflits : de deux voisins de même couleur,
+     * celui qui vient le plus tard dans l'ordre est recolorié au tour suivant. Le sommet en conflit
+     * le plus tôt dans l'ordre est toujours résolu, ce qui garantit la terminaison ; lorsque peu de
+     * sommets restent à traiter, le dernier tour est séquentiel.
+     *
+     * @param g   Le graphe figé à colorier.
+     * @param num Un tableau d'entiers spécifiant l'ordre de traitement des sommets.
+     * @return La coloration et le nombre de tours.
+     */
+    public static Resultat gloutonSpeculatif(GrapheFige g, int[] num) {
+        int n = g.getCompteur();
+        int[] couleurs = new int[n];
+        int[] rangs = new int[n];
+        for (int r = 0; r < num.length; r++) {
+            rangs[num[r]] = r;
+        }
+        int[] travail = num.clone();
+        int tours = 0;
+
+        while (travail.length > 0) {
+            tours++;
+            int[] courant = travail;
+            if (courant.length <= SEUIL_SEQUENTIEL) {
+                for (int v : courant) {
+                    couleurs[v] = plusPetiteCouleurLibre(g, couleurs, v);
+                }
+                break;
+            }
+
+            ForkJoinPool pool = ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool() : ForkJoinPool.commonPool();
+            int nbBlocs = Math.min(courant.length, BLOCS_PAR_THREAD * pool.getParallelism());
+            IntStream.range(0, nbBlocs).parallel().forEach(b -> {
+                int fin = (int) ((long) courant.length * (b + 1) / nbBlocs);
+                for (int p = (int) ((long) courant.length * b / nbBlocs); p < fin; p++) {
+                    int v = courant[p];
+                    couleurs[v] = plusPetiteCouleurLibre(g, couleurs, v);
+                }
+            });
+
+            travail = IntStream.of(courant).parallel()
+                    .filter(v -> enConflit(g, couleurs, rangs, v))
+                    .toArray();
+        }
+
+        Etiquetage e = g.nouvelEtiquetage();
+        for (int i = 0; i < n; i++) {
+            e.setNumeroCouleur(i, couleurs[i]);
+        }
+        return new Resultat(e, tours);
+    }
+
+    /**
+     * Indique si un sommet partage sa couleur avec un voisin qui le précède dans l'ordre.
+     */
+    private static boolean enConflit(GrapheFige g, int[] couleurs, int[] rangs, int v) {
+        for (int k = g.getDebut(v); k < g.getFin(v); k++) {
+            int w = g.getCible(k);
+            if (couleurs[w] == couleurs[v] && rangs[w] < rangs[v]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indique si un sommet a une priorité supérieure à celle de tous ses voisins non coloriés.
+     */
+    private static boolean estMaximumLocal(GrapheFige g, int[] couleurs, int[] priorites, int v) {
+        for (int k = g.getDebut(v); k < g.getFin(v); k++) {
+            int w = g.getCible(k);
+            if (couleurs[w] == Etiquetage.SANS_COULEUR
+                    && (priorites[w] > priorites[v] || (priorites[w] == priorites[v] && w < v))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Renvoie la plus petite couleur (à partir de 1) absente du voisinage d'un sommet.
+     * Seules les couleurs 1 à deg(v) + 1 sont examinées, dans un ensemble de bits.
+     */
+    static int plusPetiteCouleurLibre(GrapheFige g, int[] couleurs, int v) {
+        int deg = g.getDegre(v);
+        long[] interdites = new long[(deg >>> 6) + 1];
+        for (int k = g.getDebut(v); k < g.getFin(v); k++) {
+            int c = couleurs[g.getCible(k)] - 1;
+            if (c >= 0 && c <= deg) {
+                interdites[c >>> 6] |= 1L << c;
+            }
+        }
+        int w = 0;
+        while (interdites[w] == -1L) {
+            w++;
+        }
+        return (w << 6) + Long.numberOfTrailingZeros(~interdites[w]) + 1;
+    }
+}
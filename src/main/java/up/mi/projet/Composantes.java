@@ -0,0 +1,234 @@
+package up.mi.projet;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Décomposition d'un graphe figé en composantes connexes, et coloration indépendante de
+ * chaque composante.
+ *
+ * Les composantes sont numérotées de 0 à {@link #getNombre()} - 1 dans l'ordre de leur plus
+ * petit sommet. Leurs sommets sont rangés composante par composante, par indice croissant,
+ * dans un seul tableau (comme les cibles d'un {@link GrapheFige}).
+ */
+public final class Composantes {
+
+    /**
+     * Algorithme de coloration appliqué à chaque composante, par exemple
+     * {@code AlgorithmesUtilitaires::welshPowell} ou {@code AlgorithmesUtilitaires::wigderson}.
+     */
+    @FunctionalInterface
+    public interface Algorithme {
+
+        /**
+         * Colorie un graphe figé.
+         *
+         * @param g Le graphe figé (ici, une composante connexe).
+         * @return Une coloration de tous ses sommets.
+         * @throws NonBipartiException Si l'algorithme échoue sur ce graphe.
+         */
+        Etiquetage colorier(GrapheFige g) throws NonBipartiException;
+    }
+
+    private final GrapheFige g;
+    private final int[] composante; // Numéro de composante de chaque sommet
+    private final int[] local; // Position de chaque sommet dans sa composante
+    private final int[] debuts; // Les sommets de la composante c occupent sommets[debuts[c] .. debuts[c + 1] - 1]
+    private final int[] sommets;
+
+    private Composantes(GrapheFige g, int[] composante, int nombre) {
+        int n = g.getCompteur();
+        this.g = g;
+        this.composante = composante;
+        debuts = new int[nombre + 1];
+        for (int v = 0; v < n; v++) {
+            debuts[composante[v] + 1]++;
+        }
+        for (int c = 0; c < nombre; c++) {
+            debuts[c + 1] += debuts[c];
+        }
+        sommets = new int[n];
+        local = new int[n];
+        int[] positions = Arrays.copyOf(debuts, nombre);
+        for (int v = 0; v < n; v++) {
+            int c = composante[v];
+            local[v] = positions[c] - debuts[c];
+            sommets[positions[c]++] = v;
+        }
+    }
+
+    /**
+     * Calcule les composantes connexes d'un graphe.
+     *
+     * @param g Le graphe.
+     * @return Les composantes connexes de sa vue figée.
+     */
+    public static Composantes calculer(Graphe g) {
+        return calculer(g.figer());
+    }
+
+    /**
+     * Calcule les composantes connexes d'un graphe figé en O(n + m), par parcours en largeur
+     * avec une file dans un tableau d'entiers.
+     *
+     * @param g Le graphe figé.
+     * @return Ses composantes connexes.
+     */
+    public static Composantes calculer(GrapheFige g) {
+        int n = g.getCompteur();
+        int[] composante = new int[n];
+        Arrays.fill(composante, -1);
+        int[] file = new int[n];
+        int nombre = 0;
+
+        for (int racine = 0; racine < n; racine++) {
+            if (composante[racine] != -1) {
+                continue;
+            }
+            composante[racine] = nombre;
+            int tete = 0;
+            int queue = 0;
+            file[queue++] = racine;
+            while (tete < queue) {
+                int u = file[tete++];
+                for (int k = g.getDebut(u); k < g.getFin(u); k++) {
+                    int v = g.getCible(k);
+                    if (composante[v] == -1) {
+                        composante[v] = nombre;
+                        file[queue++] = v;
+                    }
+                }
+            }
+            nombre++;
+        }
+        return new Composantes(g, composante, nombre);
+    }
+
+    /**
+     * @return Le nombre de composantes connexes.
+     */
+    public int getNombre() {
+        return debuts.length - 1;
+    }
+
+    /**
+     * @param v L'indice d'un sommet.
+     * @return Le numéro de la composante qui le contient.
+     */
+    public int getComposante(int v) {
+        return composante[v];
+    }
+
+    /**
+     * @param c Le numéro d'une composante.
+     * @return Son nombre de sommets.
+     */
+    public int getTaille(int c) {
+        return debuts[c + 1] - debuts[c];
+    }
+
+    /**
+     * @param c Le numéro d'une composante.
+     * @return Ses sommets, par indice croissant.
+     */
+    public int[] getSommets(int c) {
+        return Arrays.copyOfRange(sommets, debuts[c], debuts[c + 1]);
+    }
+
+    /**
+     * Construit le sous-graphe d'une composante en O(taille + arêtes) : le sommet local i
+     * correspond au i-ème sommet de {@link #getSommets(int)}. Les indices étant renumérotés
+     * dans l'ordre croissant, les listes de voisins restent triées.
+     *
+     * @param c Le numéro d'une composante.
+     * @return Le graphe figé de la composante.
+     */
+    public GrapheFige sousGraphe(int c) {
+        int taille = getTaille(c);
+        int[] debutsLocaux = new int[taille + 1];
+        for (int i = 0; i < taille; i++) {
+            debutsLocaux[i + 1] = debutsLocaux[i] + g.getDegre(sommets[debuts[c] + i]);
+        }
+        int[] cibles = new int[debutsLocaux[taille]];
+        int pos = 0;
+        for (int i = 0; i < taille; i++) {
+            int v = sommets[debuts[c] + i];
+            for (int k = g.getDebut(v); k < g.getFin(v); k++) {
+                cibles[pos++] = local[g.getCible(k)];
+            }
+        }
+        return new GrapheFigeTableaux(debutsLocaux, cibles);
+    }
+
+    /**
+     * Colorie un graphe composante par composante.
+     *
+     * @param g          Le graphe.
+     * @param algorithme L'algorithme appliqué à chaque composante.
+     * @return La coloration de tout le graphe.
+     * @throws NonBipartiException Si l'algorithme échoue sur une composante.
+     * @see #colorier(Algorithme)
+     */
+    public static Etiquetage colorier(Graphe g, Algorithme algorithme) throws NonBipartiException {
+        return calculer(g.figer()).colorier(algorithme);
+    }
+
+    /**
+     * Colorie un graphe figé composante par composante.
+     *
+     * @param g          Le graphe figé.
+     * @param algorithme L'algorithme appliqué à chaque composante.
+     * @return La coloration de tout le graphe.
+     * @throws NonBipartiException Si l'algorithme échoue sur une composante.
+     * @see #colorier(Algorithme)
+     */
+    public static Etiquetage colorier(GrapheFige g, Algorithme algorithme) throws NonBipartiException {
+        return calculer(g).colorier(algorithme);
+    }
+
+    /**
+     * Colorie chaque composante indépendamment, en parallèle sur le pool commun, et réunit
+     * les résultats dans un seul {@link Etiquetage}. Les composantes n'ayant aucune arête
+     * entre elles, elles peuvent réutiliser les mêmes couleurs ; les seuils qui dépendent du
+     * nombre de sommets (comme celui de Wigderson) s'appliquent à chaque composante. Les sommets
+     * isolés reçoivent directement la couleur 1.
+     *
+     * @param algorithme L'algorithme appliqué à chaque composante.
+     * @return La coloration de tout le graphe.
+     * @throws NonBipartiException Si l'algorithme échoue sur une composante.
+     */
+    public Etiquetage colorier(Algorithme algorithme) throws NonBipartiException {
+        Etiquetage e = g.nouvelEtiquetage();
+        try {
+            IntStream.range(0, getNombre()).parallel().forEach(c -> {
+                if (getTaille(c) == 1) {
+                    e.setNumeroCouleur(sommets[debuts[c]], 1);
+                    return;
+                }
+                Etiquetage locale;
+                try {
+                    locale = algorithme.colorier(sousGraphe(c));
+                } catch (NonBipartiException ex) {
+                    // Le cycle impair éventuel est renuméroté dans le graphe entier
+                    throw new EchecComposante(ex.renumeroter("Composante " + c, sommets, debuts[c]));
+                }
+                for (int i = 0; i < getTaille(c); i++) {
+                    e.setNumeroCouleur(sommets[debuts[c] + i], locale.getNumeroCouleur(i));
+                }
+            });
+        } catch (EchecComposante ex) {
+            throw (NonBipartiException) ex.getCause();
+        }
+        return e;
+    }
+
+    /**
+     * Transporte l'exception d'une composante hors du flux parallèle.
+     */
+    private static final class EchecComposante extends RuntimeException {
+
+        EchecComposante(NonBipartiException cause) {
+            super(cause);
+        }
+    }
+}
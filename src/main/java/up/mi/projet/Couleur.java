@@ -6,6 +6,10 @@ package up.mi.projet;
  *
  * La couleur {@code AUCUNE} est spéciale et indique qu'un sommet n'a pas encore
  * reçu de couleur.
+ *
+ * Les algorithmes travaillent sur des numéros de couleur entiers (voir {@link Etiquetage}) ;
+ * cette énumération sert de palette pour l'affichage, l'ordinal de chaque constante étant
+ * son numéro.
  */
 public enum Couleur {
     /**
@@ -42,5 +46,21 @@ public enum Couleur {
     /**
      * La couleur Violette.
      */
-    VIOLET
+    VIOLET;
+
+    /**
+     * Renvoie la couleur de palette associée à un numéro de couleur.
+     * Les numéros 1 à 6 correspondent aux constantes ROUGE à VIOLET ; au-delà,
+     * la palette est parcourue de nouveau (7 redonne ROUGE, 8 VERT, etc.).
+     *
+     * @param numero Le numéro de couleur (0 pour aucune couleur).
+     * @return La {@link Couleur} utilisée pour afficher ce numéro.
+     */
+    public static Couleur depuisNumero(int numero) {
+        Couleur[] palette = values();
+        if (numero <= 0) {
+            return AUCUNE;
+        }
+        return palette[1 + (numero - 1) % (palette.length - 1)];
+    }
 }
@@ -4,14 +4,24 @@ package up.mi.projet;
  * Représente un étiquetage (ou coloriage) d'un graphe.
  * Cette classe associe une couleur à chaque sommet d'un graphe.
  * Les sommets sont identifiés par des indices entiers.
+ *
+ * Les couleurs sont stockées sous forme de numéros entiers : {@link #SANS_COULEUR} (0) pour
+ * un sommet non colorié, puis 1, 2, 3, ... sans autre limite que le nombre de sommets.
+ * Les numéros 1 à 6 correspondent aux constantes de {@link Couleur} ; l'énumération
+ * ne sert plus qu'à l'affichage (voir {@link Couleur#depuisNumero(int)}).
  */
 public class Etiquetage {
 
     /**
-     * Tableau stockant la couleur de chaque sommet. L'indice du tableau
+     * Numéro de couleur d'un sommet qui n'a pas encore été colorié.
+     */
+    public static final int SANS_COULEUR = 0;
+
+    /**
+     * Tableau stockant le numéro de couleur de chaque sommet. L'indice du tableau
      * correspond à l'identifiant du sommet.
      */
-    private final Couleur[] couleurs;
+    private final int[] couleurs;
 
     /**
      * Construit un nouvel étiquetage pour un graphe d'une taille donnée.
@@ -22,20 +32,29 @@ public class Etiquetage {
      *               l'étiquetage.
      */
     public Etiquetage(int taille) {
-        couleurs = new Couleur[taille];
-        for (int i = 0; i < taille; i++) {
-            couleurs[i] = Couleur.AUCUNE;
-        }
+        couleurs = new int[taille];
+    }
+
+    /**
+     * Constructeur réservé aux sous-classes qui stockent les couleurs ailleurs que sur le tas
+     * (voir {@link EtiquetageProjete}). Elles doivent redéfinir {@link #getNumeroCouleur(int)},
+     * {@link #setNumeroCouleur(int, int)} et {@link #getTaille()}, sur lesquelles reposent
+     * toutes les autres méthodes.
+     */
+    Etiquetage() {
+        couleurs = null;
     }
 
     /**
-     * Récupère la couleur d'un sommet spécifique.
+     * Récupère la couleur d'un sommet spécifique, telle qu'elle est affichée.
+     * Au-delà de six couleurs, plusieurs numéros partagent la même constante :
+     * les comparaisons entre sommets doivent utiliser {@link #getNumeroCouleur(int)}.
      *
      * @param i L'indice du sommet.
      * @return La {@link Couleur} du sommet.
      */
     public Couleur getCouleur(int i) {
-        return couleurs[i];
+        return Couleur.depuisNumero(getNumeroCouleur(i));
     }
 
     /**
@@ -45,7 +64,41 @@ public class Etiquetage {
      * @param c La nouvelle {@link Couleur} à assigner.
      */
     public void setCouleur(int i, Couleur c) {
-        couleurs[i] = c;
+        setNumeroCouleur(i, c.ordinal());
+    }
+
+    /**
+     * Récupère le numéro de couleur d'un sommet spécifique.
+     *
+     * @param i L'indice du sommet.
+     * @return Le numéro de couleur, ou {@link #SANS_COULEUR} si le sommet n'est pas colorié.
+     */
+    public int getNumeroCouleur(int i) {
+        return couleurs[i];
+    }
+
+    /**
+     * Assigne un numéro de couleur à un sommet spécifique.
+     *
+     * @param i      L'indice du sommet.
+     * @param numero Le numéro de couleur (1, 2, ...), ou {@link #SANS_COULEUR}.
+     */
+    public void setNumeroCouleur(int i, int numero) {
+        couleurs[i] = numero;
+    }
+
+    /**
+     * Renvoie le plus grand numéro de couleur utilisé, c'est-à-dire le nombre de couleurs
+     * lorsque celles-ci sont numérotées à partir de 1 sans trou.
+     *
+     * @return Le plus grand numéro de couleur, ou 0 si aucun sommet n'est colorié.
+     */
+    public int getNombreCouleurs() {
+        int max = SANS_COULEUR;
+        for (int i = 0; i < getTaille(); i++) {
+            max = Math.max(max, getNumeroCouleur(i));
+        }
+        return max;
     }
 
     /**
@@ -63,8 +116,13 @@ public class Etiquetage {
      */
     public void afficher() {
         System.out.println("Étiquetage :");
-        for (int i = 0; i < couleurs.length; i++) {
-            System.out.println("Sommet " + i + " -> " + couleurs[i]);
+        for (int i = 0; i < getTaille(); i++) {
+            int numero = getNumeroCouleur(i);
+            if (numero < Couleur.values().length) {
+                System.out.println("Sommet " + i + " -> " + Couleur.depuisNumero(numero));
+            } else {
+                System.out.println("Sommet " + i + " -> couleur n°" + numero);
+            }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,141 @@
+package up.mi.projet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Étiquetage dont les numéros de couleur sont stockés dans un fichier projeté en mémoire,
+ * hors du tas Java. Le fichier contient simplement un entier (petit-boutiste) par sommet.
+ *
+ * Il est produit notamment par {@link GrapheProjete#nouvelEtiquetage()}, pour que la coloration
+ * d'un très grand graphe n'occupe pas non plus le tas.
+ */
+public class EtiquetageProjete extends Etiquetage implements Closeable {
+
+    private final FileChannel canal; // null si le fichier appartient à un autre objet
+    private final TableauProjete couleurs;
+    private final int taille;
+    private Path temporaire; // Fichier à supprimer à la fermeture, null s'il doit être conservé
+
+    private EtiquetageProjete(FileChannel canal, FileChannel.MapMode mode, int taille) throws IOException {
+        this.canal = canal;
+        this.taille = taille;
+        this.couleurs = new TableauProjete(canal, mode, 0, taille);
+    }
+
+    /**
+     * Projette un étiquetage contenu dans une section d'un fichier plus large
+     * (voir {@link FormatGraphe}). Le canal n'est pas fermé par {@link #close()}.
+     *
+     * @param canal    Le canal du fichier contenant l'étiquetage.
+     * @param mode     Le mode de projection.
+     * @param position La position, en octets, du premier numéro de couleur.
+     * @param taille   Le nombre de sommets.
+     * @throws IOException Si la projection échoue.
+     */
+    EtiquetageProjete(FileChannel canal, FileChannel.MapMode mode, long position, int taille) throws IOException {
+        this.canal = null;
+        this.taille = taille;
+        this.couleurs = new TableauProjete(canal, mode, position, taille);
+    }
+
+    /**
+     * Crée (ou écrase) un fichier d'étiquetage dont tous les sommets sont non coloriés.
+     *
+     * @param fichier Le chemin du fichier à créer.
+     * @param taille  Le nombre de sommets.
+     * @return L'étiquetage projeté, ouvert en lecture et écriture.
+     * @throws IOException Si le fichier ne peut pas être créé ou projeté.
+     */
+    public static EtiquetageProjete creer(Path fichier, int taille) throws IOException {
+        FileChannel canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new EtiquetageProjete(canal, FileChannel.MapMode.READ_WRITE, taille);
+        } catch (IOException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Crée un étiquetage dans un fichier temporaire, supprimé par {@link #close()} : ses couleurs
+     * ne sont alors pas écrites sur disque.
+     *
+     * @param fichier Le fichier temporaire, déjà créé.
+     * @param taille  Le nombre de sommets.
+     * @return L'étiquetage projeté, ouvert en lecture et écriture.
+     * @throws IOException Si le fichier ne peut pas être projeté.
+     */
+    static EtiquetageProjete temporaire(Path fichier, int taille) throws IOException {
+        EtiquetageProjete e = creer(fichier, taille);
+        e.temporaire = fichier;
+        return e;
+    }
+
+    /**
+     * Ouvre un fichier d'étiquetage existant, en lecture et écriture.
+     *
+     * @param fichier Le chemin du fichier.
+     * @return L'étiquetage projeté.
+     * @throws IOException Si le fichier ne peut pas être ouvert ou projeté.
+     */
+    public static EtiquetageProjete ouvrir(Path fichier) throws IOException {
+        FileChannel canal = FileChannel.open(fichier, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new EtiquetageProjete(canal, FileChannel.MapMode.READ_WRITE, (int) (canal.size() / 4));
+        } catch (IOException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int getNumeroCouleur(int i) {
+        if (i < 0 || i >= taille) {
+            throw new ArrayIndexOutOfBoundsException(i);
+        }
+        return couleurs.get(i);
+    }
+
+    @Override
+    public void setNumeroCouleur(int i, int numero) {
+        if (i < 0 || i >= taille) {
+            throw new ArrayIndexOutOfBoundsException(i);
+        }
+        couleurs.set(i, numero);
+    }
+
+    @Override
+    public int getTaille() {
+        return taille;
+    }
+
+    /**
+     * Écrit les couleurs sur disque et ferme le fichier s'il appartient à cet étiquetage.
+     * Un étiquetage temporaire n'est pas écrit : son fichier est supprimé.
+     *
+     * @throws IOException Si la fermeture échoue.
+     */
+    @Override
+    public void close() throws IOException {
+        if (temporaire == null) {
+            couleurs.forcer();
+        }
+        if (canal != null) {
+            canal.close();
+        }
+        if (temporaire != null) {
+            try {
+                Files.deleteIfExists(temporaire);
+            } catch (IOException e) {
+                // Projection encore active sur un système qui l'interdit : deleteOnExit prend le relais
+            }
+            temporaire = null;
+        }
+    }
+}
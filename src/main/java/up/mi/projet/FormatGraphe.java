@@ -0,0 +1,261 @@
+package up.mi.projet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Format binaire versionné pour enregistrer un graphe (et éventuellement un étiquetage)
+ * sous une forme directement projetable en mémoire.
+ *
+ * Disposition du fichier, entiers en petit-boutiste :
+ * <pre>
+ *  0  "GCSR"                 signature (4 octets)
+ *  4  version                int
+ *  8  drapeaux               int (bit 0 : étiquetage présent)
+ * 12  n                      int, nombre de sommets
+ * 16  taille des cibles      long, 2 × nombre d'arêtes
+ * 24  réservé                long
+ * 32  débuts                 n + 1 int
+ *     cibles                 voisins triés de chaque sommet, int
+ *     étiquetage (optionnel) n int, numéros de couleur
+ * </pre>
+ *
+ * Le chargement ({@link #charger(Path)}) ne lit que l'en-tête : les tableaux sont projetés tels
+ * quels dans un {@link GrapheProjete}, sans analyse ni copie. L'écriture parcourt le graphe
+ * sommet par sommet et n'alloue qu'un tampon de taille fixe.
+ */
+public final class FormatGraphe {
+
+    /**
+     * Signature placée en tête de fichier ("GCSR" en ASCII, lu en petit-boutiste).
+     */
+    static final int SIGNATURE = 0x52534347;
+
+    /**
+     * Version du format écrite par cette classe.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Drapeau indiquant qu'un étiquetage suit la liste des cibles.
+     */
+    static final int DRAPEAU_ETIQUETAGE = 1;
+
+    /**
+     * Taille de l'en-tête, en octets.
+     */
+    static final int TAILLE_EN_TETE = 32;
+
+    private static final int TAILLE_TAMPON = 1 << 20;
+
+    private FormatGraphe() {
+    }
+
+    /**
+     * Enregistre un graphe et, si fourni, un étiquetage.
+     * Les voisins de chaque sommet sont triés au moment de l'écriture ; aucune copie CSR
+     * du graphe n'est construite en mémoire.
+     *
+     * @param g          Le graphe à enregistrer.
+     * @param etiquetage L'étiquetage à joindre, ou {@code null}.
+     * @param fichier    Le chemin du fichier à créer (écrasé s'il existe).
+     * @throws IOException Si l'écriture échoue.
+     */
+    public static void ecrire(Graphe g, Etiquetage etiquetage, Path fichier) throws IOException {
+        int n = g.getCompteur();
+        long nbCibles = 0;
+        int degreMax = 0;
+        for (int i = 0; i < n; i++) {
+            nbCibles += g.getDegre(i);
+            degreMax = Math.max(degreMax, g.getDegre(i));
+        }
+
+        try (Ecrivain sortie = new Ecrivain(fichier)) {
+            sortie.enTete(n, nbCibles, etiquetage);
+            long debut = 0;
+            for (int i = 0; i < n; i++) {
+                sortie.entier((int) debut);
+                debut += g.getDegre(i);
+            }
+            sortie.entier((int) debut);
+
+            int[] voisins = new int[degreMax];
+            for (int i = 0; i < n; i++) {
+                int deg = g.voisins(i, voisins);
+                Arrays.sort(voisins, 0, deg);
+                for (int k = 0; k < deg; k++) {
+                    sortie.entier(voisins[k]);
+                }
+            }
+            sortie.etiquetage(n, etiquetage);
+        }
+    }
+
+    /**
+     * Enregistre un graphe figé et, si fourni, un étiquetage.
+     *
+     * @param g          Le graphe figé à enregistrer.
+     * @param etiquetage L'étiquetage à joindre, ou {@code null}.
+     * @param fichier    Le chemin du fichier à créer (écrasé s'il existe).
+     * @throws IOException Si l'écriture échoue.
+     */
+    public static void ecrire(GrapheFige g, Etiquetage etiquetage, Path fichier) throws IOException {
+        int n = g.getCompteur();
+        int nbCibles = g.getDebut(n);
+
+        try (Ecrivain sortie = new Ecrivain(fichier)) {
+            sortie.enTete(n, nbCibles, etiquetage);
+            for (int i = 0; i <= n; i++) {
+                sortie.entier(g.getDebut(i));
+            }
+            for (int k = 0; k < nbCibles; k++) {
+                sortie.entier(g.getCible(k));
+            }
+            sortie.etiquetage(n, etiquetage);
+        }
+    }
+
+    /**
+     * Charge un graphe enregistré, en projetant directement ses tableaux en mémoire.
+     *
+     * @param fichier Le chemin du fichier.
+     * @return Le graphe projeté ; son étiquetage éventuel est accessible par
+     *         {@link GrapheProjete#getEtiquetage()}.
+     * @throws IOException Si le fichier est illisible, tronqué ou d'un format non reconnu.
+     */
+    public static GrapheProjete charger(Path fichier) throws IOException {
+        return GrapheProjete.ouvrir(fichier);
+    }
+
+    /**
+     * Lit et vérifie l'en-tête d'un fichier de graphe.
+     *
+     * @param canal   Le canal du fichier ouvert en lecture.
+     * @param fichier Le chemin du fichier (pour les messages d'erreur).
+     * @return L'en-tête lu.
+     * @throws IOException Si l'en-tête est absent, incohérent avec la taille du fichier,
+     *                     ou d'une version non prise en charge.
+     */
+    static EnTete lireEnTete(FileChannel canal, Path fichier) throws IOException {
+        if (canal.size() < TAILLE_EN_TETE) {
+            throw new IOException("Fichier de graphe tronqué : " + fichier);
+        }
+        ByteBuffer tampon = ByteBuffer.allocate(TAILLE_EN_TETE).order(ByteOrder.LITTLE_ENDIAN);
+        while (tampon.hasRemaining()) {
+            canal.read(tampon, tampon.position());
+        }
+        tampon.flip();
+
+        if (tampon.getInt() != SIGNATURE) {
+            throw new IOException("Ce fichier n'est pas un graphe enregistré : " + fichier);
+        }
+        int version = tampon.getInt();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Version de format non prise en charge (" + version + ") : " + fichier);
+        }
+        EnTete enTete = new EnTete(tampon.getInt(), tampon.getInt(), tampon.getLong());
+        if (enTete.compteur < 0 || enTete.nbCibles < 0 || enTete.nbCibles > Integer.MAX_VALUE
+                || canal.size() < enTete.tailleFichier()) {
+            throw new IOException("Fichier de graphe invalide : " + fichier);
+        }
+        return enTete;
+    }
+
+    /**
+     * Contenu de l'en-tête d'un fichier de graphe, et positions des sections qui en découlent.
+     */
+    static final class EnTete {
+
+        final int drapeaux;
+        final int compteur;
+        final long nbCibles;
+
+        EnTete(int drapeaux, int compteur, long nbCibles) {
+            this.drapeaux = drapeaux;
+            this.compteur = compteur;
+            this.nbCibles = nbCibles;
+        }
+
+        boolean aEtiquetage() {
+            return (drapeaux & DRAPEAU_ETIQUETAGE) != 0;
+        }
+
+        long positionDebuts() {
+            return TAILLE_EN_TETE;
+        }
+
+        long positionCibles() {
+            return positionDebuts() + 4 * (compteur + 1L);
+        }
+
+        long positionEtiquetage() {
+            return positionCibles() + 4 * nbCibles;
+        }
+
+        long tailleFichier() {
+            return positionEtiquetage() + (aEtiquetage() ? 4L * compteur : 0);
+        }
+    }
+
+    /**
+     * Écriture séquentielle d'entiers petit-boutistes à travers un tampon direct de taille fixe.
+     */
+    private static final class Ecrivain implements AutoCloseable {
+
+        private final FileChannel canal;
+        private final ByteBuffer tampon = ByteBuffer.allocateDirect(TAILLE_TAMPON).order(ByteOrder.LITTLE_ENDIAN);
+
+        Ecrivain(Path fichier) throws IOException {
+            canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+        }
+
+        void enTete(int n, long nbCibles, Etiquetage etiquetage) throws IOException {
+            if (nbCibles > Integer.MAX_VALUE) {
+                throw new IOException("Graphe trop grand pour le format : " + nbCibles + " entrées d'adjacence.");
+            }
+            if (etiquetage != null && etiquetage.getTaille() < n) {
+                throw new IllegalArgumentException("L'étiquetage ne couvre pas tous les sommets du graphe.");
+            }
+            tampon.putInt(SIGNATURE).putInt(VERSION).putInt(etiquetage != null ? DRAPEAU_ETIQUETAGE : 0)
+                    .putInt(n).putLong(nbCibles).putLong(0);
+        }
+
+        void entier(int valeur) throws IOException {
+            if (!tampon.hasRemaining()) {
+                vider();
+            }
+            tampon.putInt(valeur);
+        }
+
+        void etiquetage(int n, Etiquetage etiquetage) throws IOException {
+            if (etiquetage != null) {
+                for (int i = 0; i < n; i++) {
+                    entier(etiquetage.getNumeroCouleur(i));
+                }
+            }
+        }
+
+        private void vider() throws IOException {
+            tampon.flip();
+            while (tampon.hasRemaining()) {
+                canal.write(tampon);
+            }
+            tampon.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                vider();
+            } finally {
+                canal.close();
+            }
+        }
+    }
+}
@@ -1,26 +1,51 @@
 package up.mi.projet;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
 
 /**
- * Représente un graphe non orienté, défini par un ensemble de sommets et une matrice d'adjacence.
+ * Représente un graphe non orienté, défini par un ensemble de sommets et des listes d'adjacence.
  * Les sommets sont identifiés par des indices entiers de 0 à n-1, où n est le nombre de sommets.
+ *
+ * Les tableaux internes (sommets et voisins de chaque sommet) doublent de capacité lorsqu'ils
+ * sont pleins : la mémoire occupée croît en O(n + m) au fil des ajouts, sans pré-allocation
+ * quadratique.
  */
 public class Graphe {
 
-    private final Sommet[] v; // Ensemble des sommets (V)
-    private final int[][] adjacence; // Matrice d'adjacence pour les arêtes (E)
+    private static final int CAPACITE_INITIALE = 4;
+    private static final int[] AUCUN_VOISIN = new int[0];
+
+    private final int capaciteMax; // Nombre maximal de sommets (Integer.MAX_VALUE si illimité)
+    private Sommet[] v; // Ensemble des sommets (V)
+    private int[][] voisins; // Listes d'adjacence pour les arêtes (E), remplies sur degres[i] cases
+    private int[] degres; // Nombre de voisins de chaque sommet
     private int compteur; // Nombre actuel de sommets dans le graphe
 
+    /**
+     * Construit un graphe vide sans limite de taille.
+     * Les sommets et les arêtes peuvent être ajoutés au fur et à mesure, sans connaître
+     * leur nombre à l'avance.
+     */
+    public Graphe() {
+        this(Integer.MAX_VALUE);
+    }
+
     /**
      * Construit un graphe vide avec une capacité maximale spécifiée.
+     * La mémoire n'est pas réservée d'avance : elle est allouée au fil des ajouts.
      *
      * @param taille La capacité maximale du graphe (nombre maximal de sommets).
      */
     public Graphe(int taille) {
-        v = new Sommet[taille];
-        adjacence = new int[taille][taille];
+        capaciteMax = taille;
+        int initiale = Math.min(taille, CAPACITE_INITIALE);
+        v = new Sommet[initiale];
+        voisins = new int[initiale][];
+        degres = new int[initiale];
         compteur = 0;
     }
 
@@ -31,16 +56,24 @@ public class Graphe {
      * @throws TailleInsuffisanteException Si le nombre maximal de sommets est déjà atteint.
      */
     public void ajouterSommet(Sommet sommet) throws TailleInsuffisanteException {
-        if (compteur >= v.length) {
+        if (compteur >= capaciteMax) {
             throw new TailleInsuffisanteException("Impossible d'ajouter un sommet : taille maximale du graphe atteinte.");
         }
+        if (compteur == v.length) {
+            int capacite = (int) Math.min(capaciteMax, Math.max(CAPACITE_INITIALE, 2L * v.length));
+            v = Arrays.copyOf(v, capacite);
+            voisins = Arrays.copyOf(voisins, capacite);
+            degres = Arrays.copyOf(degres, capacite);
+        }
         v[compteur] = sommet;
+        voisins[compteur] = AUCUN_VOISIN;
         compteur++;
     }
 
     /**
      * Ajoute une arête entre deux sommets, spécifiés par leurs indices.
      * L'arête est ajoutée dans les deux sens car le graphe est non orienté.
+     * Ajouter une arête déjà présente n'a aucun effet.
      *
      * @param i L'indice du premier sommet.
      * @param j L'indice du second sommet.
@@ -56,12 +89,125 @@ public class Graphe {
         if (i == j) {
             throw new IllegalArgumentException("Impossible de créer une arête d’un sommet vers lui-même.");
         }
-        adjacence[i][j] = 1;
-        adjacence[j][i] = 1;
+        if (estAdjacent(i, j)) {
+            return;
+        }
+        ajouterVoisin(i, j);
+        ajouterVoisin(j, i);
+    }
+
+    /**
+     * Ajoute {@code j} à la fin de la liste d'adjacence de {@code i}, en doublant la
+     * capacité de la liste si nécessaire.
+     *
+     * @param i L'indice du sommet dont la liste est complétée.
+     * @param j L'indice du nouveau voisin.
+     */
+    private void ajouterVoisin(int i, int j) {
+        int[] liste = voisins[i];
+        if (degres[i] == liste.length) {
+            liste = Arrays.copyOf(liste, Math.max(CAPACITE_INITIALE, 2 * liste.length));
+            voisins[i] = liste;
+        }
+        liste[degres[i]++] = j;
+    }
+
+    /**
+     * Supprime l'arête entre deux sommets, si elle existe.
+     * Chaque extrémité est retirée de la liste de l'autre par échange avec le dernier élément,
+     * en O(deg) sans décalage du reste de la liste.
+     *
+     * @param i L'indice du premier sommet.
+     * @param j L'indice du second sommet.
+     * @return {@code true} si l'arête existait et a été supprimée, {@code false} sinon.
+     * @throws IllegalArgumentException Si les indices des sommets sont invalides.
+     */
+    public boolean supprimerArete(int i, int j) throws IllegalArgumentException {
+        if (i < 0 || i >= compteur) {
+            throw new IllegalArgumentException("Le sommet d’indice " + i + " n’existe pas dans le graphe.");
+        }
+        if (j < 0 || j >= compteur) {
+            throw new IllegalArgumentException("Le sommet d’indice " + j + " n’existe pas dans le graphe.");
+        }
+        if (!retirerVoisin(i, j)) {
+            return false;
+        }
+        retirerVoisin(j, i);
+        return true;
+    }
+
+    /**
+     * Supprime un sommet et toutes ses arêtes.
+     *
+     * Pour garder des indices contigus, le dernier sommet (d'indice n - 1) prend la place du
+     * sommet supprimé : ses voisins sont mis à jour et la valeur de son {@link Sommet} devient
+     * {@code i}. Le coût est proportionnel aux degrés des voisins concernés, pas à n.
+     *
+     * @param i L'indice du sommet à supprimer.
+     * @return L'ancien indice du sommet déplacé à l'indice {@code i}, ou {@code -1} si
+     *         {@code i} était le dernier sommet (aucun déplacement).
+     * @throws IllegalArgumentException Si l'indice est invalide.
+     */
+    public int supprimerSommet(int i) throws IllegalArgumentException {
+        if (i < 0 || i >= compteur) {
+            throw new IllegalArgumentException("Le sommet d’indice " + i + " n’existe pas dans le graphe.");
+        }
+        for (int k = 0; k < degres[i]; k++) {
+            retirerVoisin(voisins[i][k], i);
+        }
+        voisins[i] = AUCUN_VOISIN;
+        degres[i] = 0;
+
+        int dernier = compteur - 1;
+        if (i != dernier) {
+            for (int k = 0; k < degres[dernier]; k++) {
+                int w = voisins[dernier][k];
+                int[] liste = voisins[w];
+                for (int p = 0; p < degres[w]; p++) {
+                    if (liste[p] == dernier) {
+                        liste[p] = i;
+                        break;
+                    }
+                }
+            }
+            v[i] = v[dernier];
+            v[i].setValeur(i);
+            voisins[i] = voisins[dernier];
+            degres[i] = degres[dernier];
+        }
+        v[dernier] = null;
+        voisins[dernier] = null;
+        degres[dernier] = 0;
+        compteur--;
+        return i != dernier ? dernier : -1;
+    }
+
+    /**
+     * Retire {@code j} de la liste d'adjacence de {@code i} en l'échangeant avec le dernier
+     * voisin. La capacité de la liste est divisée par deux lorsqu'elle n'est plus remplie
+     * qu'au quart, pour que la mémoire suive les suppressions.
+     *
+     * @param i L'indice du sommet dont la liste est modifiée.
+     * @param j L'indice du voisin à retirer.
+     * @return {@code true} si {@code j} était présent, {@code false} sinon.
+     */
+    private boolean retirerVoisin(int i, int j) {
+        int[] liste = voisins[i];
+        for (int k = 0; k < degres[i]; k++) {
+            if (liste[k] == j) {
+                liste[k] = liste[--degres[i]];
+                if (liste.length > CAPACITE_INITIALE && degres[i] <= liste.length / 4) {
+                    voisins[i] = Arrays.copyOf(liste, liste.length / 2);
+                }
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * Vérifie s'il existe une arête entre deux sommets.
+     * Seule la plus courte des deux listes d'adjacence est parcourue.
      *
      * @param i L'indice du premier sommet.
      * @param j L'indice du second sommet.
@@ -71,7 +217,18 @@ public class Graphe {
     public boolean estAdjacent(int i, int j) {
         if (i < 0 || i >= compteur) throw new IllegalArgumentException("Indice i invalide.");
         if (j < 0 || j >= compteur) throw new IllegalArgumentException("Indice j invalide.");
-        return adjacence[i][j] == 1;
+        if (degres[j] < degres[i]) {
+            int tmp = i;
+            i = j;
+            j = tmp;
+        }
+        int[] liste = voisins[i];
+        for (int k = 0; k < degres[i]; k++) {
+            if (liste[k] == j) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -100,23 +257,84 @@ public class Graphe {
      * @return Une {@link List} de {@link Sommet}s voisins.
      */
     public List<Sommet> getVoisins(int i) {
-        List<Sommet> liste = new ArrayList<>();
-        for (int j = 0; j < compteur; j++) {
-            if (estAdjacent(i, j)) {
-                liste.add(getSommet(j));
-            }
+        List<Sommet> liste = new ArrayList<>(degres[i]);
+        for (int k = 0; k < degres[i]; k++) {
+            liste.add(getSommet(voisins[i][k]));
         }
         return liste;
     }
 
     /**
-     * Calcule le degré d'un sommet (le nombre de ses voisins).
+     * Applique une action à chaque voisin d'un sommet, sans construire de liste intermédiaire.
+     *
+     * @param i      L'indice du sommet dont on parcourt les voisins.
+     * @param action L'action appelée avec l'indice de chaque voisin.
+     */
+    public void forEachVoisin(int i, IntConsumer action) {
+        int[] liste = voisins[i];
+        for (int k = 0; k < degres[i]; k++) {
+            action.accept(liste[k]);
+        }
+    }
+
+    /**
+     * Copie les indices des voisins d'un sommet dans un tableau fourni par l'appelant,
+     * qui peut ainsi être réutilisé d'un appel à l'autre.
+     *
+     * @param i    L'indice du sommet dont on cherche les voisins.
+     * @param dest Le tableau de destination, de taille au moins {@link #getDegre(int) getDegre(i)}.
+     * @return Le nombre de voisins copiés dans {@code dest}.
+     * @throws IllegalArgumentException Si {@code dest} est trop petit.
+     */
+    public int voisins(int i, int[] dest) {
+        if (dest.length < degres[i]) {
+            throw new IllegalArgumentException("Tableau trop petit pour les " + degres[i] + " voisins du sommet " + i + ".");
+        }
+        System.arraycopy(voisins[i], 0, dest, 0, degres[i]);
+        return degres[i];
+    }
+
+    /**
+     * Crée un curseur positionné sur les voisins d'un sommet.
+     * Le curseur peut ensuite être repositionné avec {@link CurseurVoisins#placer(int)}
+     * pour parcourir d'autres sommets sans nouvelle allocation.
+     *
+     * @param i L'indice du sommet dont on parcourt les voisins.
+     * @return Un {@link CurseurVoisins} sur les voisins de {@code i}.
+     */
+    public CurseurVoisins curseur(int i) {
+        return new CurseurVoisins().placer(i);
+    }
+
+    /**
+     * Renvoie le degré d'un sommet (le nombre de ses voisins).
      *
      * @param i L'indice du sommet.
      * @return Le degré du sommet.
      */
     public int getDegre(int i) {
-        return getVoisins(i).size();
+        return degres[i];
+    }
+
+    /**
+     * Produit une copie figée du graphe au format CSR, utilisée par les algorithmes de
+     * {@link AlgorithmesUtilitaires} pour parcourir les voisins en O(deg).
+     * Les modifications ultérieures du graphe ne sont pas répercutées sur la copie.
+     *
+     * @return Un {@link GrapheFige} représentant l'état actuel du graphe.
+     */
+    public GrapheFige figer() {
+        int[] debuts = new int[compteur + 1];
+        for (int i = 0; i < compteur; i++) {
+            debuts[i + 1] = debuts[i] + degres[i];
+        }
+
+        int[] cibles = new int[debuts[compteur]];
+        for (int i = 0; i < compteur; i++) {
+            System.arraycopy(voisins[i], 0, cibles, debuts[i], degres[i]);
+            Arrays.sort(cibles, debuts[i], debuts[i + 1]);
+        }
+        return new GrapheFigeTableaux(debuts, cibles);
     }
 
     /**
@@ -126,9 +344,58 @@ public class Graphe {
     public void afficher() {
         for (int i = 0; i < compteur; i++) {
             for (int j = 0; j < compteur; j++) {
-                System.out.print(adjacence[i][j] + " ");
+                System.out.print((estAdjacent(i, j) ? 1 : 0) + " ");
             }
             System.out.println();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Curseur réutilisable sur les voisins d'un sommet, qui renvoie des indices primitifs.
+     * Le graphe ne doit pas être modifié pendant un parcours.
+     */
+    public final class CurseurVoisins {
+
+        private int[] liste; // Liste d'adjacence du sommet courant
+        private int fin; // Nombre de voisins du sommet courant
+        private int position; // Position du prochain voisin à renvoyer
+
+        private CurseurVoisins() {
+        }
+
+        /**
+         * Positionne le curseur au début des voisins d'un sommet.
+         *
+         * @param i L'indice du sommet dont on parcourt les voisins.
+         * @return Ce curseur, pour chaîner les appels.
+         */
+        public CurseurVoisins placer(int i) {
+            liste = voisins[i];
+            fin = degres[i];
+            position = 0;
+            return this;
+        }
+
+        /**
+         * Indique s'il reste des voisins à parcourir.
+         *
+         * @return {@code true} s'il reste au moins un voisin, {@code false} sinon.
+         */
+        public boolean aSuivant() {
+            return position < fin;
+        }
+
+        /**
+         * Renvoie l'indice du voisin suivant.
+         *
+         * @return L'indice du voisin suivant.
+         * @throws NoSuchElementException S'il ne reste plus de voisin.
+         */
+        public int suivant() {
+            if (position >= fin) {
+                throw new NoSuchElementException("Plus aucun voisin à parcourir.");
+            }
+            return liste[position++];
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package up.mi.projet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Représente un graphe non orienté dense, dont la matrice d'adjacence est compressée en bits.
+ *
+ * Chaque ligne de la matrice est un tableau de {@code long} : le bit {@code j % 64} du mot
+ * {@code j / 64} de la ligne {@code i} vaut 1 si et seulement si les sommets {@code i} et {@code j}
+ * sont adjacents. Une arête potentielle coûte ainsi 1 bit au lieu des 32 bits de la matrice
+ * {@code int[][]} de {@link Graphe}, et les parcours traitent 64 sommets par opération.
+ *
+ * L'API reprend celle de {@link Graphe} ({@link #ajouterSommet}, {@link #ajouterArrete},
+ * {@link #estAdjacent}, ...).
+ */
+public class GrapheDense {
+
+    private final Sommet[] v; // Ensemble des sommets (V)
+    private final long[][] lignes; // Lignes de la matrice d'adjacence, 64 arêtes par mot
+    private int compteur; // Nombre actuel de sommets dans le graphe
+
+    /**
+     * Construit un graphe dense vide avec une capacité maximale spécifiée.
+     *
+     * @param taille La capacité maximale du graphe (nombre maximal de sommets).
+     */
+    public GrapheDense(int taille) {
+        v = new Sommet[taille];
+        lignes = new long[taille][(taille + 63) >>> 6];
+        compteur = 0;
+    }
+
+    /**
+     * Ajoute un sommet au graphe.
+     *
+     * @param sommet Le sommet à ajouter.
+     * @throws TailleInsuffisanteException Si le nombre maximal de sommets est déjà atteint.
+     */
+    public void ajouterSommet(Sommet sommet) throws TailleInsuffisanteException {
+        if (compteur >= v.length) {
+            throw new TailleInsuffisanteException("Impossible d'ajouter un sommet : taille maximale du graphe atteinte.");
+        }
+        v[compteur] = sommet;
+        compteur++;
+    }
+
+    /**
+     * Ajoute une arête entre deux sommets, spécifiés par leurs indices.
+     * L'arête est ajoutée dans les deux sens car le graphe est non orienté.
+     *
+     * @param i L'indice du premier sommet.
+     * @param j L'indice du second sommet.
+     * @throws IllegalArgumentException Si les indices des sommets sont invalides ou identiques.
+     */
+    public void ajouterArrete(int i, int j) throws IllegalArgumentException {
+        if (i < 0 || i >= compteur) {
+            throw new IllegalArgumentException("Le sommet d’indice " + i + " n’existe pas dans le graphe.");
+        }
+        if (j < 0 || j >= compteur) {
+            throw new IllegalArgumentException("Le sommet d’indice " + j + " n’existe pas dans le graphe.");
+        }
+        if (i == j) {
+            throw new IllegalArgumentException("Impossible de créer une arête d’un sommet vers lui-même.");
+        }
+        lignes[i][j >>> 6] |= 1L << j;
+        lignes[j][i >>> 6] |= 1L << i;
+    }
+
+    /**
+     * Vérifie s'il existe une arête entre deux sommets.
+     *
+     * @param i L'indice du premier sommet.
+     * @param j L'indice du second sommet.
+     * @return {@code true} si les sommets sont adjacents, {@code false} sinon.
+     * @throws IllegalArgumentException Si l'un des indices est invalide.
+     */
+    public boolean estAdjacent(int i, int j) {
+        if (i < 0 || i >= compteur) throw new IllegalArgumentException("Indice i invalide.");
+        if (j < 0 || j >= compteur) throw new IllegalArgumentException("Indice j invalide.");
+        return (lignes[i][j >>> 6] & (1L << j)) != 0;
+    }
+
+    /**
+     * Renvoie la ligne de bits du sommet {@code i}, sans copie.
+     * Réservé aux algorithmes du paquetage qui travaillent mot par mot.
+     *
+     * @param i L'indice du sommet.
+     * @return Le tableau de mots de la ligne d'adjacence.
+     */
+    long[] getLigne(int i) {
+        return lignes[i];
+    }
+
+    /**
+     * Renvoie le nombre de mots utiles d'une ligne, c'est-à-dire ceux qui couvrent
+     * les {@link #getCompteur()} premiers sommets.
+     *
+     * @return Le nombre de mots à parcourir.
+     */
+    int getNombreMots() {
+        return (compteur + 63) >>> 6;
+    }
+
+    /**
+     * Récupère un sommet par son indice.
+     *
+     * @param i L'indice du sommet.
+     * @return Le {@link Sommet} à l'indice spécifié.
+     */
+    public Sommet getSommet(int i) {
+        return v[i];
+    }
+
+    /**
+     * Renvoie le nombre actuel de sommets dans le graphe.
+     *
+     * @return Le nombre de sommets.
+     */
+    public int getCompteur() {
+        return compteur;
+    }
+
+    /**
+     * Renvoie la liste des sommets voisins d'un sommet donné.
+     * Les mots nuls de la ligne sont sautés d'un coup.
+     *
+     * @param i L'indice du sommet dont on cherche les voisins.
+     * @return Une {@link List} de {@link Sommet}s voisins.
+     */
+    public List<Sommet> getVoisins(int i) {
+        List<Sommet> liste = new ArrayList<>();
+        long[] ligne = lignes[i];
+        for (int w = 0; w < getNombreMots(); w++) {
+            long mot = ligne[w];
+            while (mot != 0) {
+                liste.add(getSommet((w << 6) + Long.numberOfTrailingZeros(mot)));
+                mot &= mot - 1;
+            }
+        }
+        return liste;
+    }
+
+    /**
+     * Calcule le degré d'un sommet en comptant les bits de sa ligne, 64 à la fois.
+     *
+     * @param i L'indice du sommet.
+     * @return Le degré du sommet.
+     */
+    public int getDegre(int i) {
+        long[] ligne = lignes[i];
+        int deg = 0;
+        for (int w = 0; w < getNombreMots(); w++) {
+            deg += Long.bitCount(ligne[w]);
+        }
+        return deg;
+    }
+
+    /**
+     * Produit une copie figée du graphe au format CSR, pour les algorithmes de
+     * {@link AlgorithmesUtilitaires} qui prennent un {@link GrapheFige}.
+     *
+     * @return Un {@link GrapheFige} représentant l'état actuel du graphe.
+     */
+    public GrapheFige figer() {
+        int[] debuts = new int[compteur + 1];
+        for (int i = 0; i < compteur; i++) {
+            debuts[i + 1] = debuts[i] + getDegre(i);
+        }
+
+        int[] cibles = new int[debuts[compteur]];
+        int k = 0;
+        for (int i = 0; i < compteur; i++) {
+            long[] ligne = lignes[i];
+            for (int w = 0; w < getNombreMots(); w++) {
+                long mot = ligne[w];
+                while (mot != 0) {
+                    cibles[k++] = (w << 6) + Long.numberOfTrailingZeros(mot);
+                    mot &= mot - 1;
+                }
+            }
+        }
+        return new GrapheFigeTableaux(debuts, cibles);
+    }
+
+    /**
+     * Affiche la matrice d'adjacence du graphe sur la sortie standard.
+     * Utile pour le débogage.
+     */
+    public void afficher() {
+        for (int i = 0; i < compteur; i++) {
+            for (int j = 0; j < compteur; j++) {
+                System.out.print((estAdjacent(i, j) ? 1 : 0) + " ");
+            }
+            System.out.println();
+        }
+    }
+}
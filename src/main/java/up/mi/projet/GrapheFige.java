@@ -0,0 +1,113 @@
+package up.mi.projet;
+
+/**
+ * Représente une vue figée (en lecture seule) d'un graphe non orienté, stockée au format
+ * CSR (« compressed sparse row »).
+ *
+ * Les voisins du sommet {@code i} occupent les positions {@code getDebut(i)} à {@code getFin(i) - 1}
+ * de la liste des cibles, triés par indice croissant. Parcourir les voisins d'un sommet coûte
+ * donc O(deg) au lieu de O(n) avec une matrice d'adjacence.
+ *
+ * Deux stockages existent : en mémoire, tel que renvoyé par {@link Graphe#figer()}, ou dans un
+ * fichier projeté en mémoire hors du tas Java ({@link GrapheProjete}). Les algorithmes de
+ * {@link AlgorithmesUtilitaires} acceptent indifféremment l'un ou l'autre.
+ */
+public abstract class GrapheFige {
+
+    /**
+     * Constructeur réservé aux implémentations du paquetage.
+     */
+    GrapheFige() {
+    }
+
+    /**
+     * Renvoie le nombre de sommets du graphe.
+     *
+     * @return Le nombre de sommets.
+     */
+    public abstract int getCompteur();
+
+    /**
+     * Renvoie la position du premier voisin du sommet {@code i} dans la liste des cibles.
+     * {@code getDebut(getCompteur())} vaut la taille totale de la liste.
+     *
+     * @param i L'indice du sommet, entre 0 et {@link #getCompteur()} inclus.
+     * @return La position (incluse) du premier voisin.
+     */
+    public abstract int getDebut(int i);
+
+    /**
+     * Renvoie le sommet stocké à une position donnée de la liste des cibles.
+     *
+     * @param k La position dans la liste des cibles.
+     * @return L'indice du sommet voisin.
+     */
+    public abstract int getCible(int k);
+
+    /**
+     * Renvoie le nombre d'arêtes (non orientées) du graphe.
+     *
+     * @return Le nombre d'arêtes.
+     */
+    public int getNombreAretes() {
+        return getDebut(getCompteur()) / 2;
+    }
+
+    /**
+     * Renvoie le degré d'un sommet en temps constant.
+     *
+     * @param i L'indice du sommet.
+     * @return Le degré du sommet.
+     */
+    public int getDegre(int i) {
+        return getDebut(i + 1) - getDebut(i);
+    }
+
+    /**
+     * Renvoie la position qui suit le dernier voisin du sommet {@code i} dans la liste des cibles.
+     *
+     * @param i L'indice du sommet.
+     * @return La position (exclue) de fin des voisins.
+     */
+    public int getFin(int i) {
+        return getDebut(i + 1);
+    }
+
+    /**
+     * Vérifie s'il existe une arête entre deux sommets, par recherche dichotomique
+     * dans la liste triée des voisins de {@code i}.
+     *
+     * @param i L'indice du premier sommet.
+     * @param j L'indice du second sommet.
+     * @return {@code true} si les sommets sont adjacents, {@code false} sinon.
+     * @throws IllegalArgumentException Si l'un des indices est invalide.
+     */
+    public boolean estAdjacent(int i, int j) {
+        if (i < 0 || i >= getCompteur()) throw new IllegalArgumentException("Indice i invalide.");
+        if (j < 0 || j >= getCompteur()) throw new IllegalArgumentException("Indice j invalide.");
+        int bas = getDebut(i);
+        int haut = getFin(i) - 1;
+        while (bas <= haut) {
+            int milieu = (bas + haut) >>> 1;
+            int cible = getCible(milieu);
+            if (cible < j) {
+                bas = milieu + 1;
+            } else if (cible > j) {
+                haut = milieu - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Crée un étiquetage vide adapté à ce graphe, utilisé par les algorithmes de coloration
+     * pour stocker leur résultat. Par défaut, l'étiquetage est alloué sur le tas Java.
+     *
+     * @return Un nouvel {@link Etiquetage} de {@link #getCompteur()} sommets non coloriés.
+     */
+    public Etiquetage nouvelEtiquetage() {
+        return new Etiquetage(getCompteur());
+    }
+}
@@ -0,0 +1,57 @@
+package up.mi.projet;
+
+import java.util.Arrays;
+
+/**
+ * Vue CSR stockée dans deux tableaux d'entiers sur le tas Java.
+ * C'est l'implémentation de {@link GrapheFige} produite par {@link Graphe#figer()}.
+ */
+final class GrapheFigeTableaux extends GrapheFige {
+
+    private final int[] debuts; // debuts[i] : position du premier voisin de i dans cibles (taille n + 1)
+    private final int[] cibles; // Voisins de chaque sommet, concaténés et triés
+
+    /**
+     * Construit une vue CSR à partir de ses deux tableaux.
+     * Les tableaux ne sont pas copiés : l'appelant ne doit plus les modifier.
+     *
+     * @param debuts Les positions de début des listes de voisins (taille n + 1).
+     * @param cibles Les voisins concaténés de tous les sommets.
+     */
+    GrapheFigeTableaux(int[] debuts, int[] cibles) {
+        this.debuts = debuts;
+        this.cibles = cibles;
+    }
+
+    @Override
+    public int getCompteur() {
+        return debuts.length - 1;
+    }
+
+    @Override
+    public int getDebut(int i) {
+        return debuts[i];
+    }
+
+    @Override
+    public int getCible(int k) {
+        return cibles[k];
+    }
+
+    @Override
+    public int getDegre(int i) {
+        return debuts[i + 1] - debuts[i];
+    }
+
+    @Override
+    public int getFin(int i) {
+        return debuts[i + 1];
+    }
+
+    @Override
+    public boolean estAdjacent(int i, int j) {
+        if (i < 0 || i >= getCompteur()) throw new IllegalArgumentException("Indice i invalide.");
+        if (j < 0 || j >= getCompteur()) throw new IllegalArgumentException("Indice j invalide.");
+        return Arrays.binarySearch(cibles, debuts[i], debuts[i + 1], j) >= 0;
+    }
+}
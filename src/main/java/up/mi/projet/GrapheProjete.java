@@ -0,0 +1,134 @@
+package up.mi.projet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Vue CSR dont les tableaux sont stockés dans un fichier projeté en mémoire
+ * ({@link FileChannel#map}), hors du tas Java.
+ *
+ * Le système charge les pages du fichier à la demande : un graphe plus grand que le tas
+ * peut ainsi être colorié sans pression sur le ramasse-miettes. Les étiquetages créés par
+ * {@link #nouvelEtiquetage()} sont eux aussi projetés, dans un fichier temporaire placé à
+ * côté du graphe, et doivent être fermés par leur propriétaire.
+ *
+ * Le fichier suit le format décrit dans {@link FormatGraphe}. La liste des cibles est limitée
+ * à 2^31 - 1 entrées, soit environ un milliard d'arêtes.
+ */
+public final class GrapheProjete extends GrapheFige implements Closeable {
+
+    private final Path fichier;
+    private final FileChannel canal;
+    private final int compteur;
+    private final TableauProjete debuts;
+    private final TableauProjete cibles;
+    private final EtiquetageProjete etiquetage; // Étiquetage enregistré avec le graphe, ou null
+
+    private GrapheProjete(Path fichier, FileChannel canal, FormatGraphe.EnTete enTete) throws IOException {
+        this.fichier = fichier;
+        this.canal = canal;
+        this.compteur = enTete.compteur;
+        FileChannel.MapMode mode = FileChannel.MapMode.READ_ONLY;
+        this.debuts = new TableauProjete(canal, mode, enTete.positionDebuts(), compteur + 1L);
+        this.cibles = new TableauProjete(canal, mode, enTete.positionCibles(), enTete.nbCibles);
+        this.etiquetage = enTete.aEtiquetage()
+                ? new EtiquetageProjete(canal, mode, enTete.positionEtiquetage(), compteur)
+                : null;
+    }
+
+    /**
+     * Recopie un graphe figé dans un fichier et le projette en mémoire.
+     *
+     * @param source  Le graphe à recopier.
+     * @param fichier Le chemin du fichier à créer (écrasé s'il existe).
+     * @return Le graphe projeté, ouvert en lecture seule.
+     * @throws IOException Si le fichier ne peut pas être écrit ou projeté.
+     */
+    public static GrapheProjete creer(GrapheFige source, Path fichier) throws IOException {
+        FormatGraphe.ecrire(source, null, fichier);
+        return ouvrir(fichier);
+    }
+
+    /**
+     * Ouvre en lecture seule un graphe enregistré au format {@link FormatGraphe}.
+     * Seul l'en-tête est lu : les pages sont chargées au premier accès.
+     *
+     * @param fichier Le chemin du fichier.
+     * @return Le graphe projeté.
+     * @throws IOException Si le fichier ne peut pas être ouvert, est tronqué ou n'a pas le bon format.
+     */
+    public static GrapheProjete ouvrir(Path fichier) throws IOException {
+        FileChannel canal = FileChannel.open(fichier, StandardOpenOption.READ);
+        try {
+            return new GrapheProjete(fichier, canal, FormatGraphe.lireEnTete(canal, fichier));
+        } catch (IOException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int getCompteur() {
+        return compteur;
+    }
+
+    @Override
+    public int getDebut(int i) {
+        return debuts.get(i);
+    }
+
+    @Override
+    public int getCible(int k) {
+        return cibles.get(k);
+    }
+
+    /**
+     * Renvoie l'étiquetage enregistré dans le fichier avec le graphe.
+     * Il est projeté en lecture seule : toute modification lève une
+     * {@link java.nio.ReadOnlyBufferException}.
+     *
+     * @return L'étiquetage enregistré, ou {@code null} si le fichier n'en contient pas.
+     */
+    public Etiquetage getEtiquetage() {
+        return etiquetage;
+    }
+
+    /**
+     * Crée un étiquetage projeté dans un fichier temporaire du répertoire du graphe.
+     *
+     * L'étiquetage appartient à l'appelant, qui doit le fermer ({@link EtiquetageProjete#close()})
+     * pour libérer son canal et supprimer son fichier ; c'est aussi le cas des colorations
+     * renvoyées par les algorithmes. Un fichier resté ouvert est supprimé à l'arrêt de la JVM.
+     * Les colorations intermédiaires de ces algorithmes restent sur le tas.
+     *
+     * @return Un nouvel {@link EtiquetageProjete} de {@link #getCompteur()} sommets non coloriés.
+     * @throws UncheckedIOException Si le fichier temporaire ne peut pas être créé.
+     */
+    @Override
+    public Etiquetage nouvelEtiquetage() {
+        try {
+            Path repertoire = fichier.toAbsolutePath().getParent();
+            Path temporaire = Files.createTempFile(repertoire, fichier.getFileName().toString(), ".etiquetage");
+            temporaire.toFile().deleteOnExit();
+            return EtiquetageProjete.temporaire(temporaire, compteur);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible de créer l'étiquetage projeté.", e);
+        }
+    }
+
+    /**
+     * Ferme le fichier du graphe. Les projections restent valides jusqu'à leur libération
+     * par le ramasse-miettes, mais le graphe ne doit plus être utilisé.
+     *
+     * @throws IOException Si la fermeture échoue.
+     */
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+}
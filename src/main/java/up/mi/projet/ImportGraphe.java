@@ -0,0 +1,344 @@
+package up.mi.projet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Importe des graphes depuis des fichiers texte et les construit directement au format CSR.
+ *
+ * Deux formats sont reconnus :
+ * <ul>
+ *     <li>DIMACS {@code .col} : lignes {@code c ...} (commentaire), {@code p edge n m} (en-tête)
+ *     et {@code e u v} (arête, sommets numérotés à partir de 1) ; les autres lignes sont ignorées ;</li>
+ *     <li>liste d'arêtes : une arête {@code u v} par ligne (sommets numérotés à partir de 0,
+ *     colonnes suivantes ignorées), commentaires introduits par {@code #} ou {@code %}.</li>
+ * </ul>
+ *
+ * Le fichier est découpé en plages d'octets analysées en parallèle, chacune avec son propre
+ * tampon NIO, octet par octet et sans créer de {@link String} par ligne. Une ligne appartient
+ * à la plage dans laquelle elle commence. Les arêtes en double et les boucles sont ignorées
+ * silencieusement, contrairement à {@link Graphe#ajouterArrete(int, int)}.
+ */
+public final class ImportGraphe {
+
+    private static final int TAILLE_TAMPON = 1 << 16;
+    private static final long TAILLE_MIN_PLAGE = 1 << 20;
+
+    private ImportGraphe() {
+    }
+
+    /**
+     * Importe un fichier au format DIMACS {@code .col}.
+     *
+     * @param fichier Le chemin du fichier.
+     * @return Le graphe importé.
+     * @throws IOException Si le fichier est illisible, sans ligne {@code p}, ou contient une ligne invalide.
+     */
+    public static GrapheFige lireDimacs(Path fichier) throws IOException {
+        return lire(fichier, true, nombrePlagesParDefaut(fichier));
+    }
+
+    /**
+     * Importe un fichier contenant une liste d'arêtes. Le nombre de sommets est déduit du plus
+     * grand indice rencontré.
+     *
+     * @param fichier Le chemin du fichier.
+     * @return Le graphe importé.
+     * @throws IOException Si le fichier est illisible ou contient une ligne invalide.
+     */
+    public static GrapheFige lireListeAretes(Path fichier) throws IOException {
+        return lire(fichier, false, nombrePlagesParDefaut(fichier));
+    }
+
+    /**
+     * Importe un fichier en imposant le nombre de plages analysées en parallèle.
+     *
+     * @param fichier    Le chemin du fichier.
+     * @param dimacs     {@code true} pour le format DIMACS, {@code false} pour une liste d'arêtes.
+     * @param nbPlages   Le nombre de plages d'octets.
+     * @return Le graphe importé.
+     * @throws IOException Si le fichier est illisible ou invalide.
+     */
+    static GrapheFige lire(Path fichier, boolean dimacs, int nbPlages) throws IOException {
+        Plage[] plages;
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.READ)) {
+            long taille = canal.size();
+            try {
+                plages = IntStream.range(0, nbPlages).parallel()
+                        .mapToObj(p -> {
+                            try {
+                                Plage plage = new Plage(canal, taille * p / nbPlages, taille * (p + 1) / nbPlages);
+                                plage.analyser(dimacs);
+                                return plage;
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        })
+                        .toArray(Plage[]::new);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        int n;
+        if (dimacs) {
+            n = -1;
+            for (Plage plage : plages) {
+                if (plage.nDeclare >= 0) {
+                    n = plage.nDeclare;
+                }
+            }
+            if (n < 0) {
+                throw new IOException("Ligne d'en-tête « p » absente : " + fichier);
+            }
+        } else {
+            n = 0;
+        }
+        for (Plage plage : plages) {
+            if (dimacs && plage.maxSommet >= n) {
+                throw new IOException("Sommet " + (plage.maxSommet + 1) + " hors de l'en-tête (n = " + n + ") : " + fichier);
+            }
+            n = Math.max(n, plage.maxSommet + 1);
+        }
+        return construire(n, plages);
+    }
+
+    /**
+     * Choisit un nombre de plages : quelques-unes par cœur, d'au moins 1 Mio chacune.
+     */
+    private static int nombrePlagesParDefaut(Path fichier) throws IOException {
+        long taille = Files.size(fichier);
+        long parTaille = Math.max(1, taille / TAILLE_MIN_PLAGE);
+        return (int) Math.min(parTaille, 4L * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construit la vue CSR à partir des arêtes de toutes les plages : comptage des degrés,
+     * remplissage, puis tri et suppression des doublons de chaque liste en parallèle.
+     *
+     * @param n      Le nombre de sommets.
+     * @param plages Les plages analysées.
+     * @return Le graphe figé, sans arête en double.
+     * @throws IOException Si le graphe dépasse la capacité d'un tableau Java.
+     */
+    private static GrapheFige construire(int n, Plage[] plages) throws IOException {
+        int[] degres = new int[n];
+        long total = 0;
+        for (Plage plage : plages) {
+            for (int k = 0; k < plage.taille; k++) {
+                degres[plage.aretes[k]]++;
+            }
+            total += plage.taille;
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IOException("Graphe trop grand : " + total + " entrées d'adjacence.");
+        }
+
+        int[] debuts = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            debuts[i + 1] = debuts[i] + degres[i];
+        }
+        int[] cibles = new int[(int) total];
+        int[] pos = Arrays.copyOf(debuts, n);
+        for (Plage plage : plages) {
+            for (int k = 0; k < plage.taille; k += 2) {
+                int u = plage.aretes[k];
+                int v = plage.aretes[k + 1];
+                cibles[pos[u]++] = v;
+                cibles[pos[v]++] = u;
+            }
+        }
+
+        // Tri et suppression des doublons, liste par liste
+        IntStream.range(0, n).parallel().forEach(i -> {
+            Arrays.sort(cibles, debuts[i], debuts[i + 1]);
+            int fin = debuts[i];
+            for (int k = debuts[i]; k < debuts[i + 1]; k++) {
+                if (k == debuts[i] || cibles[k] != cibles[k - 1]) {
+                    cibles[fin++] = cibles[k];
+                }
+            }
+            degres[i] = fin - debuts[i];
+        });
+
+        // Compactage vers la gauche
+        int fin = 0;
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(cibles, debuts[i], cibles, fin, degres[i]);
+            debuts[i] = fin;
+            fin += degres[i];
+        }
+        debuts[n] = fin;
+        return new GrapheFigeTableaux(debuts, fin == cibles.length ? cibles : Arrays.copyOf(cibles, fin));
+    }
+
+    /**
+     * Plage d'octets du fichier et arêtes qui y ont été lues.
+     * Les octets sont lus par blocs dans un tampon ; {@link #actuel} est l'octet courant
+     * (ou -1 en fin de fichier).
+     */
+    private static final class Plage {
+
+        private final FileChannel canal;
+        private final long debut;
+        private final long fin;
+        private final ByteBuffer tampon = ByteBuffer.allocate(TAILLE_TAMPON);
+        private final byte[] octets = tampon.array();
+        private long base; // Position dans le fichier du premier octet du tampon
+        private int indice; // Indice de l'octet courant dans le tampon
+        private int limite; // Nombre d'octets valides dans le tampon
+        private int actuel;
+
+        int[] aretes = new int[64]; // Extrémités u, v consécutives (indices à partir de 0)
+        int taille;
+        int maxSommet = -1;
+        int nDeclare = -1;
+
+        Plage(FileChannel canal, long debut, long fin) {
+            this.canal = canal;
+            this.debut = debut;
+            this.fin = fin;
+        }
+
+        /**
+         * Analyse toutes les lignes qui commencent dans la plage.
+         *
+         * @param dimacs {@code true} pour le format DIMACS, {@code false} pour une liste d'arêtes.
+         * @throws IOException En cas d'erreur de lecture ou de ligne invalide.
+         */
+        void analyser(boolean dimacs) throws IOException {
+            if (debut == fin) {
+                return;
+            }
+            if (debut == 0) {
+                placer(0);
+            } else {
+                // La ligne en cours appartient à la plage précédente
+                placer(debut - 1);
+                sauterLigne();
+            }
+            while (actuel != -1 && position() < fin) {
+                sauterBlancs();
+                if (actuel == '\n') {
+                    suivant();
+                } else if (actuel != -1) {
+                    if (dimacs) {
+                        ligneDimacs();
+                    } else {
+                        ligneListe();
+                    }
+                }
+            }
+        }
+
+        private void ligneDimacs() throws IOException {
+            if (actuel == 'e') {
+                suivant();
+                int u = lireEntier();
+                int v = lireEntier();
+                if (u < 1 || v < 1) {
+                    throw new IOException("Sommet 0 invalide en DIMACS (numérotation à partir de 1), octet " + position());
+                }
+                ajouter(u - 1, v - 1);
+            } else if (actuel == 'p') {
+                suivant();
+                sauterBlancs();
+                while (actuel > ' ') {
+                    suivant(); // format : "edge", "col", ...
+                }
+                nDeclare = lireEntier();
+                lireEntier();
+            }
+            sauterLigne();
+        }
+
+        private void ligneListe() throws IOException {
+            if (actuel != '#' && actuel != '%') {
+                ajouter(lireEntier(), lireEntier());
+            }
+            sauterLigne();
+        }
+
+        private void ajouter(int u, int v) {
+            if (u == v) {
+                return;
+            }
+            if (taille == aretes.length) {
+                aretes = Arrays.copyOf(aretes, 2 * aretes.length);
+            }
+            aretes[taille++] = u;
+            aretes[taille++] = v;
+            maxSommet = Math.max(maxSommet, Math.max(u, v));
+        }
+
+        private int lireEntier() throws IOException {
+            sauterBlancs();
+            if (actuel < '0' || actuel > '9') {
+                throw new IOException("Entier attendu à l'octet " + position());
+            }
+            long valeur = 0;
+            while (actuel >= '0' && actuel <= '9') {
+                valeur = 10 * valeur + (actuel - '0');
+                if (valeur > Integer.MAX_VALUE) {
+                    throw new IOException("Entier trop grand à l'octet " + position());
+                }
+                suivant();
+            }
+            return (int) valeur;
+        }
+
+        private void sauterBlancs() throws IOException {
+            while (actuel == ' ' || actuel == '\t' || actuel == '\r') {
+                suivant();
+            }
+        }
+
+        private void sauterLigne() throws IOException {
+            while (actuel != '\n' && actuel != -1) {
+                suivant();
+            }
+            if (actuel == '\n') {
+                suivant();
+            }
+        }
+
+        private long position() {
+            return base + indice;
+        }
+
+        private void placer(long position) throws IOException {
+            base = position;
+            indice = 0;
+            limite = 0;
+            remplir();
+        }
+
+        private void suivant() throws IOException {
+            indice++;
+            if (indice >= limite) {
+                base += limite;
+                indice = 0;
+                remplir();
+            } else {
+                actuel = octets[indice] & 0xFF;
+            }
+        }
+
+        private void remplir() throws IOException {
+            tampon.clear();
+            int lus = 0;
+            while (lus == 0) {
+                lus = canal.read(tampon, base);
+            }
+            limite = Math.max(lus, 0);
+            actuel = lus > 0 ? octets[0] & 0xFF : -1;
+        }
+    }
+}
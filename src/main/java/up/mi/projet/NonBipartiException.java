@@ -3,9 +3,14 @@ package up.mi.projet;
 /**
  * Exception levée lorsqu'un algorithme détecte qu'un graphe n'est pas biparti,
  * rendant impossible un 2-coloriage.
+ *
+ * Lorsqu'elle provient de {@link AlgorithmesUtilitaires#deuxCol(GrapheFige)}, l'exception
+ * contient un cycle impair du graphe, qui prouve qu'aucun 2-coloriage n'existe.
  */
 public class NonBipartiException extends Exception {
 
+    private final int[] cycleImpair;
+
     /**
      * Construit une nouvelle exception avec un message de détail.
      *
@@ -13,6 +18,47 @@ public class NonBipartiException extends Exception {
      *                plus tard par la méthode {@link #getMessage()}.
      */
     public NonBipartiException(String message) {
+        this(message, null);
+    }
+
+    /**
+     * Construit une nouvelle exception avec un message de détail et le cycle impair trouvé.
+     *
+     * @param message     Le message de détail.
+     * @param cycleImpair Les sommets du cycle impair, dans l'ordre (le dernier est adjacent au premier).
+     */
+    public NonBipartiException(String message, int[] cycleImpair) {
         super(message);
+        this.cycleImpair = cycleImpair;
+    }
+
+    /**
+     * Renvoie le cycle impair qui a fait échouer le 2-coloriage.
+     *
+     * @return Les sommets du cycle, dans l'ordre (le dernier est adjacent au premier),
+     *         ou {@code null} si aucun cycle n'a été fourni.
+     */
+    public int[] getCycleImpair() {
+        return cycleImpair == null ? null : cycleImpair.clone();
+    }
+
+    /**
+     * Transpose l'échec d'un sous-graphe dans le graphe qui le contient : le sommet v du cycle
+     * devient {@code indices[decalage + v]}, et le message est préfixé par le contexte.
+     *
+     * @param contexte Le sous-graphe concerné, par exemple « Composante 2 ».
+     * @param indices  Les indices, dans le graphe entier, des sommets du sous-graphe.
+     * @param decalage La position du sommet 0 du sous-graphe dans {@code indices}.
+     * @return Une nouvelle exception, dont le cycle éventuel est renuméroté.
+     */
+    NonBipartiException renumeroter(String contexte, int[] indices, int decalage) {
+        int[] cycle = null;
+        if (cycleImpair != null) {
+            cycle = new int[cycleImpair.length];
+            for (int k = 0; k < cycle.length; k++) {
+                cycle[k] = indices[decalage + cycleImpair[k]];
+            }
+        }
+        return new NonBipartiException(contexte + " : " + getMessage(), cycle);
     }
 }
@@ -0,0 +1,168 @@
+package up.mi.projet;
+
+import java.util.Arrays;
+
+/**
+ * Prétraitement par épluchage du k-cœur d'un graphe figé.
+ *
+ * Un sommet qui a moins de k voisins peut toujours être colorié après eux avec au plus k
+ * couleurs. On retire donc, tant qu'il en existe, les sommets de degré résiduel inférieur à k ;
+ * il reste le k-cœur, seul confié à l'algorithme coûteux (Wigderson, résolution exacte, Tabucol...).
+ * Les sommets épluchés sont ensuite coloriés gloutonnement dans l'ordre inverse de l'épluchage :
+ * chacun n'a alors pour voisins coloriés que ceux qui restaient au moment de son retrait, soit
+ * moins de k.
+ */
+public final class NoyauK {
+
+    private final GrapheFige g;
+    private final int k;
+    private final int[] noyau; // Sommets du k-cœur, par indice croissant
+    private final int[] epluches; // Sommets retirés, dans l'ordre de l'épluchage
+
+    private NoyauK(GrapheFige g, int k, int[] noyau, int[] epluches) {
+        this.g = g;
+        this.k = k;
+        this.noyau = noyau;
+        this.epluches = epluches;
+    }
+
+    /**
+     * Épluche un graphe jusqu'à son k-cœur.
+     *
+     * @param g Le graphe.
+     * @param k Le degré minimal des sommets conservés.
+     * @return Le résultat de l'épluchage de sa vue figée.
+     */
+    public static NoyauK eplucher(Graphe g, int k) {
+        return eplucher(g.figer(), k);
+    }
+
+    /**
+     * Épluche un graphe figé jusqu'à son k-cœur en O(n + m), en retirant un à un les sommets de
+     * degré résiduel minimal rangés dans des {@link SeauxDegres}.
+     *
+     * @param g Le graphe figé.
+     * @param k Le degré minimal des sommets conservés.
+     * @return Le résultat de l'épluchage.
+     */
+    public static NoyauK eplucher(GrapheFige g, int k) {
+        int n = g.getCompteur();
+        int[] degres = new int[n];
+        for (int i = 0; i < n; i++) {
+            degres[i] = g.getDegre(i);
+        }
+        SeauxDegres seaux = new SeauxDegres(degres);
+        int[] epluches = new int[n];
+        int nbEpluches = 0;
+
+        while (!seaux.estVide()) {
+            int s = seaux.sommetMin();
+            if (seaux.getDegre(s) >= k) {
+                break;
+            }
+            seaux.retirer(s);
+            epluches[nbEpluches++] = s;
+            for (int j = g.getDebut(s); j < g.getFin(s); j++) {
+                int v = g.getCible(j);
+                if (seaux.contient(v)) {
+                    seaux.decrementer(v);
+                }
+            }
+        }
+
+        int[] noyau = new int[n - nbEpluches];
+        int p = 0;
+        for (int i = 0; i < n; i++) {
+            if (seaux.contient(i)) {
+                noyau[p++] = i;
+            }
+        }
+        return new NoyauK(g, k, noyau, Arrays.copyOf(epluches, nbEpluches));
+    }
+
+    /**
+     * @return Le paramètre k de l'épluchage.
+     */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * @return Les sommets du k-cœur, par indice croissant.
+     */
+    public int[] getNoyau() {
+        return noyau.clone();
+    }
+
+    /**
+     * @return Les sommets retirés, dans l'ordre de l'épluchage.
+     */
+    public int[] getEpluches() {
+        return epluches.clone();
+    }
+
+    /**
+     * Construit le sous-graphe induit par le k-cœur : le sommet local i correspond au i-ème
+     * sommet de {@link #getNoyau()}.
+     *
+     * @return Le graphe figé du k-cœur.
+     */
+    public GrapheFige sousGraphe() {
+        return AlgorithmesUtilitaires.sousGraphe(g, noyau);
+    }
+
+    /**
+     * Étend au graphe entier une coloration du k-cœur : les sommets épluchés sont coloriés
+     * gloutonnement dans l'ordre inverse de l'épluchage, avec au plus max(k, couleurs du cœur) couleurs.
+     *
+     * @param colorationNoyau Une coloration de {@link #sousGraphe()}.
+     * @return La coloration de tout le graphe.
+     */
+    public Etiquetage completer(Etiquetage colorationNoyau) {
+        Etiquetage e = g.nouvelEtiquetage();
+        for (int i = 0; i < noyau.length; i++) {
+            e.setNumeroCouleur(noyau[i], colorationNoyau.getNumeroCouleur(i));
+        }
+        boolean[] interdit = new boolean[AlgorithmesUtilitaires.degreMax(g) + 1];
+        for (int p = epluches.length - 1; p >= 0; p--) {
+            int v = epluches[p];
+            e.setNumeroCouleur(v, AlgorithmesUtilitaires.minCouleurPossible(g, e, v, interdit) + 1);
+        }
+        return e;
+    }
+
+    /**
+     * Colorie un graphe en confiant seulement son k-cœur à un algorithme.
+     *
+     * @param g          Le graphe.
+     * @param k          Le degré minimal des sommets confiés à l'algorithme.
+     * @param algorithme L'algorithme appliqué au k-cœur.
+     * @return La coloration de tout le graphe.
+     * @throws NonBipartiException Si l'algorithme échoue sur le k-cœur.
+     */
+    public static Etiquetage colorier(Graphe g, int k, Composantes.Algorithme algorithme) throws NonBipartiException {
+        return colorier(g.figer(), k, algorithme);
+    }
+
+    /**
+     * Colorie un graphe en confiant seulement son k-cœur à un algorithme.
+     *
+     * @param g          Le graphe figé.
+     * @param k          Le degré minimal des sommets confiés à l'algorithme.
+     * @param algorithme L'algorithme appliqué au k-cœur.
+     * @return La coloration de tout le graphe.
+     * @throws NonBipartiException Si l'algorithme échoue sur le k-cœur.
+     */
+    public static Etiquetage colorier(GrapheFige g, int k, Composantes.Algorithme algorithme) throws NonBipartiException {
+        NoyauK noyau = eplucher(g, k);
+        GrapheFige coeur = noyau.sousGraphe();
+        Etiquetage colorationNoyau;
+        try {
+            colorationNoyau = coeur.getCompteur() == 0 ? new Etiquetage(0) : algorithme.colorier(coeur);
+        } catch (NonBipartiException ex) {
+            // Le cycle impair éventuel est renuméroté dans le graphe entier
+            throw ex.renumeroter(k + "-cœur", noyau.noyau, 0);
+        }
+        return noyau.completer(colorationNoyau);
+    }
+}
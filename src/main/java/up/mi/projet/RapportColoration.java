@@ -0,0 +1,116 @@
+package up.mi.projet;
+
+/**
+ * Résultat détaillé de la vérification d'une coloration, produit par
+ * {@link AlgorithmesUtilitaires#verifier(GrapheFige, Etiquetage)}.
+ *
+ * Une arête est en conflit lorsque ses deux extrémités ont le même numéro de couleur,
+ * y compris {@link Etiquetage#SANS_COULEUR} : comme pour
+ * {@link AlgorithmesUtilitaires#estCol(GrapheFige, Etiquetage)}, une coloration n'est propre que
+ * si elle n'a aucun conflit.
+ *
+ * Les sommets dont le numéro n'est pas une couleur (0 pour {@link Etiquetage#SANS_COULEUR}, ou
+ * un numéro négatif) sont signalés à part par {@link #getSommetsInvalides()} : ils ne comptent
+ * pas parmi les couleurs utilisées, et une coloration n'est complète que s'il n'y en a aucun.
+ *
+ * Un rapport produit par {@link Clique#evaluer(GrapheFige, Etiquetage, long)} porte en plus la
+ * taille ω d'une clique du graphe : aucune coloration n'utilise moins de ω couleurs, et
+ * {@link #getEcart()} mesure ce qu'un algorithme plus coûteux pourrait encore gagner au mieux.
+ */
+public final class RapportColoration {
+
+    private final int[] conflits; // Extrémités u < v consécutives
+    private final int[] invalides; // Sommets de numéro inférieur ou égal à 0, croissants
+    private final int nombreCouleurs;
+    private final int borneInferieure;
+
+    RapportColoration(int[] conflits, int[] invalides, int nombreCouleurs) {
+        this(conflits, invalides, nombreCouleurs, 0);
+    }
+
+    private RapportColoration(int[] conflits, int[] invalides, int nombreCouleurs, int borneInferieure) {
+        this.conflits = conflits;
+        this.invalides = invalides;
+        this.nombreCouleurs = nombreCouleurs;
+        this.borneInferieure = borneInferieure;
+    }
+
+    /**
+     * Renvoie une copie de ce rapport portant la taille d'une clique du graphe.
+     *
+     * @param borneInferieure La taille de la clique.
+     * @return Le nouveau rapport.
+     */
+    RapportColoration avecBorneInferieure(int borneInferieure) {
+        return new RapportColoration(conflits, invalides, nombreCouleurs, borneInferieure);
+    }
+
+    /**
+     * @return {@code true} si aucune arête n'est en conflit.
+     */
+    public boolean estPropre() {
+        return conflits.length == 0;
+    }
+
+    /**
+     * @return {@code true} si tous les sommets ont un numéro de couleur strictement positif.
+     */
+    public boolean estComplete() {
+        return invalides.length == 0;
+    }
+
+    /**
+     * Renvoie les sommets non coloriés ({@link Etiquetage#SANS_COULEUR}) ou portant un numéro
+     * négatif, qui ne désigne aucune couleur.
+     *
+     * @return Les indices de ces sommets, par ordre croissant.
+     */
+    public int[] getSommetsInvalides() {
+        return invalides.clone();
+    }
+
+    /**
+     * @return Le nombre d'arêtes en conflit.
+     */
+    public int getNombreConflits() {
+        return conflits.length / 2;
+    }
+
+    /**
+     * Renvoie les arêtes en conflit, triées par première extrémité puis par seconde.
+     *
+     * @return Un tableau de paires {@code {u, v}} avec {@code u < v}.
+     */
+    public int[][] getConflits() {
+        int[][] aretes = new int[conflits.length / 2][];
+        for (int k = 0; k < aretes.length; k++) {
+            aretes[k] = new int[] { conflits[2 * k], conflits[2 * k + 1] };
+        }
+        return aretes;
+    }
+
+    /**
+     * @return Le nombre de numéros de couleur distincts strictement positifs utilisés.
+     */
+    public int getNombreCouleurs() {
+        return nombreCouleurs;
+    }
+
+    /**
+     * @return La taille ω de la clique connue, borne inférieure prouvée du nombre chromatique,
+     *         ou 0 si aucune clique n'a été cherchée.
+     */
+    public int getBorneInferieure() {
+        return borneInferieure;
+    }
+
+    /**
+     * Renvoie l'écart k − ω entre le nombre de couleurs utilisées et la borne inférieure.
+     * Un écart nul sur une coloration propre prouve qu'elle est optimale.
+     *
+     * @return L'écart à la borne inférieure.
+     */
+    public int getEcart() {
+        return nombreCouleurs - borneInferieure;
+    }
+}
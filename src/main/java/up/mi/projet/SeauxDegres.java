@@ -0,0 +1,146 @@
+package up.mi.projet;
+
+import java.util.Arrays;
+
+/**
+ * Range des sommets dans des seaux indexés par leur degré, chaque seau étant une liste
+ * doublement chaînée stockée dans des tableaux d'entiers.
+ *
+ * Les degrés ne font que décroître ({@link #decrementer(int)}) : retirer un sommet, baisser
+ * son degré ou trouver un sommet de degré minimal ou maximal coûte O(1) amorti, et une suite
+ * de n retraits et m décréments coûte O(n + m + Δ) au total.
+ */
+final class SeauxDegres {
+
+    private static final int AUCUN = -1;
+
+    private final int[] degres;
+    private final int[] tetes; // Premier sommet de chaque seau
+    private final int[] suivants;
+    private final int[] precedents;
+    private int taille;
+    private int min; // Aucun seau de degré inférieur n'est occupé
+    private int max; // Aucun seau de degré supérieur n'est occupé
+
+    /**
+     * Range les sommets 0 à {@code degres.length - 1} selon leur degré initial.
+     *
+     * @param degres Le degré de chaque sommet ; le tableau est copié.
+     */
+    SeauxDegres(int[] degres) {
+        int n = degres.length;
+        this.degres = degres.clone();
+        int degreMax = 0;
+        for (int d : degres) {
+            degreMax = Math.max(degreMax, d);
+        }
+        tetes = new int[degreMax + 1];
+        Arrays.fill(tetes, AUCUN);
+        suivants = new int[n];
+        precedents = new int[n];
+        // Insertion en ordre décroissant pour que chaque seau liste ses sommets par indice croissant
+        for (int v = n - 1; v >= 0; v--) {
+            inserer(v);
+        }
+        taille = n;
+        min = 0;
+        max = degreMax;
+    }
+
+    /**
+     * @return {@code true} s'il ne reste aucun sommet.
+     */
+    boolean estVide() {
+        return taille == 0;
+    }
+
+    /**
+     * @param v Le sommet.
+     * @return {@code true} si le sommet n'a pas été retiré.
+     */
+    boolean contient(int v) {
+        return degres[v] >= 0;
+    }
+
+    /**
+     * @param v Un sommet présent.
+     * @return Son degré courant.
+     */
+    int getDegre(int v) {
+        return degres[v];
+    }
+
+    /**
+     * Renvoie un sommet de degré maximal, sans le retirer.
+     *
+     * @return Le sommet, ou -1 s'il ne reste aucun sommet.
+     */
+    int sommetMax() {
+        if (taille == 0) {
+            return AUCUN;
+        }
+        while (tetes[max] == AUCUN) {
+            max--;
+        }
+        return tetes[max];
+    }
+
+    /**
+     * Renvoie un sommet de degré minimal, sans le retirer.
+     *
+     * @return Le sommet, ou -1 s'il ne reste aucun sommet.
+     */
+    int sommetMin() {
+        if (taille == 0) {
+            return AUCUN;
+        }
+        while (tetes[min] == AUCUN) {
+            min++;
+        }
+        return tetes[min];
+    }
+
+    /**
+     * Retire un sommet présent.
+     *
+     * @param v Le sommet.
+     */
+    void retirer(int v) {
+        detacher(v);
+        degres[v] = AUCUN;
+        taille--;
+    }
+
+    /**
+     * Diminue de 1 le degré d'un sommet présent de degré strictement positif.
+     *
+     * @param v Le sommet.
+     */
+    void decrementer(int v) {
+        detacher(v);
+        degres[v]--;
+        inserer(v);
+        min = Math.min(min, degres[v]);
+    }
+
+    private void inserer(int v) {
+        int d = degres[v];
+        precedents[v] = AUCUN;
+        suivants[v] = tetes[d];
+        if (tetes[d] != AUCUN) {
+            precedents[tetes[d]] = v;
+        }
+        tetes[d] = v;
+    }
+
+    private void detacher(int v) {
+        if (precedents[v] != AUCUN) {
+            suivants[precedents[v]] = suivants[v];
+        } else {
+            tetes[degres[v]] = suivants[v];
+        }
+        if (suivants[v] != AUCUN) {
+            precedents[suivants[v]] = precedents[v];
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package up.mi.projet;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Tableau d'entiers stocké dans une zone de fichier projetée en mémoire, hors du tas Java.
+ * Les entiers sont lus et écrits en petit-boutiste, l'ordre natif des processeurs courants.
+ *
+ * Un {@link MappedByteBuffer} ne peut pas dépasser 2 Gio : la zone est donc découpée en
+ * tranches de {@link #ENTIERS_PAR_TRANCHE} entiers, chacune projetée séparément. L'indice
+ * {@code k} se trouve dans la tranche {@code k / ENTIERS_PAR_TRANCHE}.
+ */
+final class TableauProjete {
+
+    /**
+     * Nombre d'entiers par tranche projetée (2^28 entiers, soit 1 Gio).
+     */
+    static final int ENTIERS_PAR_TRANCHE = 1 << 28;
+
+    private final MappedByteBuffer[] tranches;
+    private final int decalage; // log2 du nombre d'entiers par tranche
+    private final int masque; // Entiers par tranche - 1
+    private final long longueur;
+
+    /**
+     * Projette une zone de fichier en tranches de {@link #ENTIERS_PAR_TRANCHE} entiers.
+     *
+     * @param canal    Le canal du fichier, ouvert en lecture (et en écriture pour {@code READ_WRITE}).
+     * @param mode     Le mode de projection.
+     * @param position La position, en octets, du premier entier dans le fichier.
+     * @param longueur Le nombre d'entiers du tableau.
+     * @throws IOException Si la projection échoue.
+     */
+    TableauProjete(FileChannel canal, FileChannel.MapMode mode, long position, long longueur) throws IOException {
+        this(canal, mode, position, longueur, ENTIERS_PAR_TRANCHE);
+    }
+
+    /**
+     * Projette une zone de fichier avec une taille de tranche choisie (utile pour les tests).
+     *
+     * @param canal             Le canal du fichier.
+     * @param mode              Le mode de projection.
+     * @param position          La position, en octets, du premier entier dans le fichier.
+     * @param longueur          Le nombre d'entiers du tableau.
+     * @param entiersParTranche Le nombre d'entiers par tranche, puissance de deux.
+     * @throws IOException Si la projection échoue.
+     */
+    TableauProjete(FileChannel canal, FileChannel.MapMode mode, long position, long longueur,
+                   int entiersParTranche) throws IOException {
+        if (Integer.bitCount(entiersParTranche) != 1 || entiersParTranche > ENTIERS_PAR_TRANCHE) {
+            throw new IllegalArgumentException("Taille de tranche invalide : " + entiersParTranche);
+        }
+        this.decalage = Integer.numberOfTrailingZeros(entiersParTranche);
+        this.masque = entiersParTranche - 1;
+        this.longueur = longueur;
+
+        int nbTranches = (int) ((longueur + masque) >>> decalage);
+        tranches = new MappedByteBuffer[nbTranches];
+        for (int t = 0; t < nbTranches; t++) {
+            long debut = (long) t << decalage;
+            long taille = Math.min(entiersParTranche, longueur - debut);
+            tranches[t] = canal.map(mode, position + 4 * debut, 4 * taille);
+            tranches[t].order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Renvoie le nombre d'entiers du tableau.
+     *
+     * @return La longueur du tableau.
+     */
+    long longueur() {
+        return longueur;
+    }
+
+    /**
+     * Lit un entier.
+     *
+     * @param k L'indice de l'entier.
+     * @return La valeur stockée à l'indice {@code k}.
+     */
+    int get(long k) {
+        return tranches[(int) (k >>> decalage)].getInt(((int) k & masque) << 2);
+    }
+
+    /**
+     * Écrit un entier.
+     *
+     * @param k      L'indice de l'entier.
+     * @param valeur La valeur à stocker.
+     */
+    void set(long k, int valeur) {
+        tranches[(int) (k >>> decalage)].putInt(((int) k & masque) << 2, valeur);
+    }
+
+    /**
+     * Force l'écriture sur disque des modifications faites en mode {@code READ_WRITE}.
+     */
+    void forcer() {
+        for (MappedByteBuffer tranche : tranches) {
+            tranche.force();
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package up.mi.projet;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+/**
+ * Recherche tabou (Tabucol, Hertz et de Werra) pour réduire le nombre de couleurs d'une
+ * coloration propre existante.
+ *
+ * Partant d'une coloration à k couleurs, la recherche retire la couleur k, recolorie ses sommets
+ * au hasard parmi les k - 1 autres, puis minimise le nombre d'arêtes en conflit en déplaçant un
+ * sommet en conflit vers une autre couleur. La table gamma ({@code n × k}, dans un tableau
+ * d'entiers) donne pour chaque sommet le nombre de voisins de chaque couleur : l'effet d'un
+ * mouvement se lit en O(1) et se met à jour en O(deg). Un mouvement annulé est interdit pendant
+ * une durée (tenure) qui croît avec le nombre de sommets en conflit ; l'itération d'expiration
+ * est conservée en {@code long}, comme le compteur d'itérations. Dès que le nombre de
+ * conflits tombe à zéro, la coloration est publiée et l'on tente k - 2, et ainsi de suite.
+ *
+ * La recherche est « à tout moment » : {@link #getMeilleur()} renvoie, depuis n'importe quel
+ * thread et à tout instant, la meilleure coloration propre trouvée jusque-là.
+ */
+public final class Tabucol {
+
+    private static final int MASQUE_HORLOGE = 255; // Consultation de l'horloge toutes les 256 itérations
+    private static final int TENURE_ALEATOIRE = 10;
+    private static final double TENURE_PAR_CONFLIT = 0.6;
+    private static final int TAILLE_MAX_TABLEAU = Integer.MAX_VALUE - 8;
+
+    private final GrapheFige g;
+    private final int n;
+    private int[] meilleure; // Couleurs 1 à meilleurK de la meilleure coloration propre
+    private int meilleurK;
+    private volatile boolean arrete;
+
+    /**
+     * Prépare une recherche à partir d'une coloration propre.
+     *
+     * @param g        Le graphe.
+     * @param initiale Une coloration propre de tous les sommets du graphe.
+     * @throws IllegalArgumentException Si la coloration n'est pas propre ou laisse un sommet non
+     *                                  colorié, ou si la table gamma ne tient pas dans un tableau.
+     */
+    public Tabucol(Graphe g, Etiquetage initiale) {
+        this(g.figer(), initiale);
+    }
+
+    /**
+     * Prépare une recherche à partir d'une coloration propre.
+     *
+     * @param g        Le graphe figé.
+     * @param initiale Une coloration propre de tous les sommets du graphe.
+     * @throws IllegalArgumentException Si la coloration n'est pas propre ou laisse un sommet non
+     *                                  colorié, ou si la table gamma ne tient pas dans un tableau.
+     */
+    public Tabucol(GrapheFige g, Etiquetage initiale) {
+        this.g = g;
+        this.n = g.getCompteur();
+        if (initiale.getTaille() != n || !AlgorithmesUtilitaires.estCol(g, initiale)) {
+            throw new IllegalArgumentException("La coloration initiale doit être propre.");
+        }
+        meilleure = new int[n];
+        for (int i = 0; i < n; i++) {
+            meilleure[i] = initiale.getNumeroCouleur(i);
+            if (meilleure[i] == Etiquetage.SANS_COULEUR) {
+                throw new IllegalArgumentException("Le sommet " + i + " n'est pas colorié.");
+            }
+        }
+        meilleurK = initiale.getNombreCouleurs();
+        // La première cible, k - 1 couleurs, donne la plus grande table gamma
+        if ((long) n * (meilleurK - 1) > TAILLE_MAX_TABLEAU) {
+            throw new IllegalArgumentException("La table gamma de " + n + " × " + (meilleurK - 1)
+                    + " entiers dépasse la taille maximale d'un tableau.");
+        }
+    }
+
+    /**
+     * Renvoie une copie de la meilleure coloration propre trouvée jusqu'à présent.
+     * Peut être appelée pendant qu'une recherche s'exécute dans un autre thread.
+     * La copie est allouée sur le tas, comme les tableaux de la recherche : des appels
+     * répétés sur un {@link GrapheProjete} ne créent aucun fichier temporaire.
+     *
+     * @return La meilleure coloration connue.
+     */
+    public Etiquetage getMeilleur() {
+        int[] couleurs;
+        synchronized (this) {
+            couleurs = meilleure;
+        }
+        Etiquetage e = new Etiquetage(n);
+        for (int i = 0; i < n; i++) {
+            e.setNumeroCouleur(i, couleurs[i]);
+        }
+        return e;
+    }
+
+    /**
+     * @return Le nombre de couleurs de la meilleure coloration connue.
+     */
+    public synchronized int getNombreCouleurs() {
+        return meilleurK;
+    }
+
+    /**
+     * Interrompt au plus tôt les recherches en cours. L'arrêt est définitif : une recherche
+     * lancée ensuite, même par un appel concurrent à peine commencé, rend aussitôt la meilleure
+     * coloration connue.
+     */
+    public void arreter() {
+        arrete = true;
+    }
+
+    /**
+     * Cherche des colorations avec de moins en moins de couleurs jusqu'à l'échéance ou jusqu'à
+     * un appel à {@link #arreter()}.
+     *
+     * @param budgetMillis Le temps maximal de recherche, en millisecondes.
+     * @param graine       La graine du générateur aléatoire.
+     * @return La meilleure coloration propre trouvée.
+     */
+    public Etiquetage ameliorer(long budgetMillis, long graine) {
+        rechercher(System.nanoTime() + budgetMillis * 1_000_000L, graine);
+        return getMeilleur();
+    }
+
+    /**
+     * Lance plusieurs recherches indépendantes en parallèle, avec des graines différentes.
+     * Elles partagent la meilleure coloration : lorsqu'une recherche trouve k couleurs, les
+     * autres abandonnent leur objectif s'il n'est plus inférieur à k et visent k - 1.
+     *
+     * @param budgetMillis Le temps maximal de recherche, en millisecondes.
+     * @param nbDeparts    Le nombre de recherches indépendantes.
+     * @param graine       La graine dont sont dérivées celles de chaque recherche.
+     * @return La meilleure coloration propre trouvée.
+     */
+    public Etiquetage ameliorerEnParallele(long budgetMillis, int nbDeparts, long graine) {
+        long echeance = System.nanoTime() + budgetMillis * 1_000_000L;
+        SplittableRandom racine = new SplittableRandom(graine);
+        long[] graines = LongStream.generate(racine::nextLong).limit(nbDeparts).toArray();
+        LongStream.of(graines).parallel().forEach(s -> rechercher(echeance, s));
+        return getMeilleur();
+    }
+
+    private synchronized void publier(int[] couleurs, int k) {
+        if (k < meilleurK) {
+            int[] copie = new int[n];
+            for (int i = 0; i < n; i++) {
+                copie[i] = couleurs[i] + 1;
+            }
+            meilleure = copie;
+            meilleurK = k;
+        }
+    }
+
+    /**
+     * Boucle principale d'une recherche : tant qu'il reste du temps, vise une coloration à
+     * une couleur de moins que la meilleure connue.
+     */
+    private void rechercher(long echeance, long graine) {
+        SplittableRandom alea = new SplittableRandom(graine);
+        int[] couleurs = new int[n]; // Couleurs 0 à k - 1
+        int[] gamma = new int[0];
+        long[] tabou = new long[0]; // Itération jusqu'à laquelle le mouvement (v, c) est interdit
+        int[] conflits = new int[n]; // Sommets en conflit
+        int[] positions = new int[n]; // Position dans conflits, -1 si absent
+        long iteration = 0;
+
+        while (true) {
+            int k;
+            synchronized (this) {
+                k = meilleurK - 1;
+                for (int i = 0; i < n; i++) {
+                    couleurs[i] = meilleure[i] - 1;
+                }
+            }
+            if (k < 1 || arrete || System.nanoTime() - echeance > 0) {
+                return;
+            }
+
+            // Les sommets de la couleur retirée reçoivent une couleur au hasard
+            for (int i = 0; i < n; i++) {
+                if (couleurs[i] >= k) {
+                    couleurs[i] = alea.nextInt(k);
+                }
+            }
+            if (gamma.length < n * k) {
+                gamma = new int[n * k];
+                tabou = new long[n * k];
+            } else {
+                Arrays.fill(gamma, 0, n * k, 0);
+                Arrays.fill(tabou, 0, n * k, 0);
+            }
+            iteration = 0;
+            int nbConflits = 0;
+            int aretesEnConflit = 0;
+            for (int v = 0; v < n; v++) {
+                for (int j = g.getDebut(v); j < g.getFin(v); j++) {
+                    gamma[v * k + couleurs[g.getCible(j)]]++;
+                }
+                positions[v] = -1;
+                if (gamma[v * k + couleurs[v]] > 0) {
+                    positions[v] = nbConflits;
+                    conflits[nbConflits++] = v;
+                    aretesEnConflit += gamma[v * k + couleurs[v]];
+                }
+            }
+            aretesEnConflit /= 2;
+            int meilleurConflits = aretesEnConflit;
+
+            boolean objectifCaduc = false;
+            while (aretesEnConflit > 0) {
+                iteration++;
+                if ((iteration & MASQUE_HORLOGE) == 0) {
+                    if (arrete || System.nanoTime() - echeance > 0) {
+                        return;
+                    }
+                    if (getNombreCouleurs() <= k) {
+                        objectifCaduc = true; // Une autre recherche a déjà atteint k couleurs
+                        break;
+                    }
+                }
+
+                // Meilleur mouvement non tabou (ou tabou mais améliorant le record : aspiration)
+                int meilleurSommet = -1;
+                int meilleureCouleur = -1;
+                int meilleurDelta = Integer.MAX_VALUE;
+                int egalites = 0;
+                for (int p = 0; p < nbConflits; p++) {
+                    int v = conflits[p];
+                    int base = v * k;
+                    int actuel = gamma[base + couleurs[v]];
+                    for (int c = 0; c < k; c++) {
+                        if (c == couleurs[v]) {
+                            continue;
+                        }
+                        int delta = gamma[base + c] - actuel;
+                        if (tabou[base + c] > iteration && aretesEnConflit + delta >= meilleurConflits) {
+                            continue;
+                        }
+                        if (delta < meilleurDelta) {
+                            meilleurDelta = delta;
+                            meilleurSommet = v;
+                            meilleureCouleur = c;
+                            egalites = 1;
+                        } else if (delta == meilleurDelta && alea.nextInt(++egalites) == 0) {
+                            meilleurSommet = v;
+                            meilleureCouleur = c;
+                        }
+                    }
+                }
+                if (meilleurSommet == -1) {
+                    if (k == 1) {
+                        return; // Aucun mouvement possible : une arête suffit à interdire une seule couleur
+                    }
+                    // Tous les mouvements sont tabous : on en choisit un au hasard
+                    meilleurSommet = conflits[alea.nextInt(nbConflits)];
+                    meilleureCouleur = (couleurs[meilleurSommet] + 1 + alea.nextInt(k - 1)) % k;
+                    meilleurDelta = gamma[meilleurSommet * k + meilleureCouleur] - gamma[meilleurSommet * k + couleurs[meilleurSommet]];
+                }
+
+                // Application du mouvement et mise à jour de gamma et des sommets en conflit
+                int v = meilleurSommet;
+                int ancienne = couleurs[v];
+                couleurs[v] = meilleureCouleur;
+                aretesEnConflit += meilleurDelta;
+                tabou[v * k + ancienne] = iteration + alea.nextInt(TENURE_ALEATOIRE) + (int) (TENURE_PAR_CONFLIT * nbConflits);
+                for (int j = g.getDebut(v); j < g.getFin(v); j++) {
+                    int w = g.getCible(j);
+                    gamma[w * k + ancienne]--;
+                    gamma[w * k + meilleureCouleur]++;
+                    nbConflits = mettreAJourConflit(w, gamma[w * k + couleurs[w]] > 0, conflits, positions, nbConflits);
+                }
+                nbConflits = mettreAJourConflit(v, gamma[v * k + couleurs[v]] > 0, conflits, positions, nbConflits);
+                meilleurConflits = Math.min(meilleurConflits, aretesEnConflit);
+            }
+
+            if (!objectifCaduc && aretesEnConflit == 0) {
+                publier(couleurs, k);
+            }
+        }
+    }
+
+    /**
+     * Ajoute ou retire un sommet de l'ensemble des sommets en conflit.
+     *
+     * @return Le nouveau nombre de sommets en conflit.
+     */
+    private static int mettreAJourConflit(int v, boolean enConflit, int[] conflits, int[] positions, int nbConflits) {
+        if (enConflit && positions[v] == -1) {
+            positions[v] = nbConflits;
+            conflits[nbConflits++] = v;
+        } else if (!enConflit && positions[v] != -1) {
+            int dernier = conflits[--nbConflits];
+            conflits[positions[v]] = dernier;
+            positions[dernier] = positions[v];
+            positions[v] = -1;
+        }
+        return nbConflits;
+    }
+}
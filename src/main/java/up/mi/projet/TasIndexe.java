@@ -0,0 +1,135 @@
+package up.mi.projet;
+
+import java.util.Arrays;
+
+/**
+ * File de priorité de sommets sous forme de tas binaire indexé (tas maximum).
+ *
+ * Les sommets sont ordonnés selon deux clés lues dans des tableaux partagés avec l'appelant :
+ * d'abord {@code primaire}, puis {@code secondaire}, puis l'indice le plus petit. Lorsque
+ * l'appelant modifie les clés d'un sommet présent dans le tas, il doit appeler
+ * {@link #mettreAJour(int)}, qui rétablit l'ordre en O(log n) grâce à la position de
+ * chaque sommet dans le tas.
+ */
+final class TasIndexe {
+
+    private final int[] primaire;
+    private final int[] secondaire;
+    private final int[] tas; // Sommets, le maximum en tête
+    private final int[] position; // Position de chaque sommet dans le tas, -1 s'il est absent
+    private int taille;
+
+    /**
+     * Construit un tas vide pour les sommets 0 à {@code primaire.length - 1}.
+     *
+     * @param primaire   La clé principale de chaque sommet.
+     * @param secondaire La clé départageant les égalités sur la clé principale.
+     */
+    TasIndexe(int[] primaire, int[] secondaire) {
+        this.primaire = primaire;
+        this.secondaire = secondaire;
+        tas = new int[primaire.length];
+        position = new int[primaire.length];
+        Arrays.fill(position, -1);
+    }
+
+    /**
+     * @return {@code true} si le tas ne contient plus aucun sommet.
+     */
+    boolean estVide() {
+        return taille == 0;
+    }
+
+    /**
+     * @param v Le sommet.
+     * @return {@code true} si le sommet est présent dans le tas.
+     */
+    boolean contient(int v) {
+        return position[v] >= 0;
+    }
+
+    /**
+     * Insère un sommet absent du tas.
+     *
+     * @param v Le sommet.
+     */
+    void inserer(int v) {
+        tas[taille] = v;
+        position[v] = taille;
+        taille++;
+        monter(taille - 1);
+    }
+
+    /**
+     * Retire et renvoie le sommet de plus grande priorité.
+     *
+     * @return Le sommet extrait.
+     */
+    int extraireMax() {
+        int max = tas[0];
+        taille--;
+        placer(tas[taille], 0);
+        position[max] = -1;
+        if (taille > 0) {
+            descendre(0);
+        }
+        return max;
+    }
+
+    /**
+     * Rétablit l'ordre du tas après une modification des clés d'un sommet présent.
+     *
+     * @param v Le sommet dont les clés ont changé.
+     */
+    void mettreAJour(int v) {
+        monter(position[v]);
+        descendre(position[v]);
+    }
+
+    private boolean avant(int a, int b) {
+        if (primaire[a] != primaire[b]) {
+            return primaire[a] > primaire[b];
+        }
+        if (secondaire[a] != secondaire[b]) {
+            return secondaire[a] > secondaire[b];
+        }
+        return a < b;
+    }
+
+    private void monter(int k) {
+        int v = tas[k];
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            if (!avant(v, tas[parent])) {
+                break;
+            }
+            placer(tas[parent], k);
+            k = parent;
+        }
+        placer(v, k);
+    }
+
+    private void descendre(int k) {
+        int v = tas[k];
+        while (true) {
+            int fils = 2 * k + 1;
+            if (fils >= taille) {
+                break;
+            }
+            if (fils + 1 < taille && avant(tas[fils + 1], tas[fils])) {
+                fils++;
+            }
+            if (!avant(tas[fils], v)) {
+                break;
+            }
+            placer(tas[fils], k);
+            k = fils;
+        }
+        placer(v, k);
+    }
+
+    private void placer(int v, int k) {
+        tas[k] = v;
+        position[v] = k;
+    }
+}
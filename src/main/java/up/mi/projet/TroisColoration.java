@@ -0,0 +1,282 @@
+package up.mi.projet;
+
+/**
+ * Décide si un graphe est 3-coloriable, en fournissant une 3-coloration lorsqu'il l'est.
+ *
+ * Un sommet de degré au plus 2 peut toujours recevoir une couleur après ses voisins : le graphe
+ * est d'abord réduit à son 3-cœur ({@link NoyauK}), qui se décide composante par composante.
+ * Une clique de 4 sommets ({@link Clique#gloutonne(GrapheFige)}) suffit à conclure par la négative.
+ *
+ * La recherche exhaustive sur une composante est un retour arrière sur des domaines représentés
+ * en bits : pour chaque couleur c, le bit v du domaine c vaut 1 tant que v peut encore recevoir c.
+ * Colorier un sommet retire sa couleur du domaine de tous ses voisins en un « et » par mot de sa
+ * ligne d'adjacence ; les sommets sans couleur possible (échec) et ceux à une seule couleur
+ * (coloriés aussitôt) se détectent 64 par 64 par combinaison des trois domaines. On branche sur
+ * un sommet à deux couleurs possibles ayant le plus de voisins non coloriés, et jamais sur plus
+ * d'une couleur encore inutilisée, ces couleurs étant interchangeables.
+ *
+ * La matrice d'adjacence d'une composante occupe n² bits, et la recherche peut atteindre n
+ * niveaux de récursion, chacun copiant quatre vecteurs de n bits : une composante du 3-cœur de
+ * plus de {@link #TAILLE_MAX_COMPOSANTE} sommets n'est pas explorée, et la réponse est alors
+ * {@link Reponse#INDETERMINE} à moins qu'une autre composante ne prouve {@link Reponse#NON}.
+ */
+public final class TroisColoration {
+
+    private static final int MASQUE_HORLOGE = 255; // Consultation de l'horloge tous les 256 nœuds
+
+    /**
+     * Nombre maximal de sommets d'une composante du 3-cœur soumise à la recherche exhaustive :
+     * 512 Kio de matrice d'adjacence et au plus 2 Mio de copies de domaines sur 2048 niveaux.
+     */
+    public static final int TAILLE_MAX_COMPOSANTE = 2048;
+
+    /**
+     * Réponse du test de 3-colorabilité.
+     */
+    public enum Reponse {
+        /** Le graphe est 3-coloriable. */
+        OUI,
+        /** Le graphe n'est pas 3-coloriable. */
+        NON,
+        /**
+         * Le budget de temps a expiré avant la fin de la recherche, ou une composante dépasse
+         * {@link #TAILLE_MAX_COMPOSANTE} sommets.
+         */
+        INDETERMINE
+    }
+
+    /**
+     * Résultat du test : la réponse, et la 3-coloration lorsqu'elle existe.
+     */
+    public static final class Resultat {
+
+        private final Reponse reponse;
+        private final Etiquetage etiquetage;
+
+        Resultat(Reponse reponse, Etiquetage etiquetage) {
+            this.reponse = reponse;
+            this.etiquetage = etiquetage;
+        }
+
+        /**
+         * @return La réponse du test.
+         */
+        public Reponse getReponse() {
+            return reponse;
+        }
+
+        /**
+         * @return Une coloration propre à au plus 3 couleurs si la réponse est {@link Reponse#OUI},
+         *         {@code null} sinon.
+         */
+        public Etiquetage getEtiquetage() {
+            return etiquetage;
+        }
+    }
+
+    private final int n;
+    private final int mots;
+    private final long[][] lignes;
+    private final long echeance;
+    private final int[] couleurs;
+    private int noeuds;
+    private boolean interrompu;
+
+    private TroisColoration(GrapheFige g, long echeance) {
+        this.n = g.getCompteur();
+        this.mots = (n + 63) >>> 6;
+        this.lignes = new long[n][mots];
+        for (int v = 0; v < n; v++) {
+            for (int k = g.getDebut(v); k < g.getFin(v); k++) {
+                int w = g.getCible(k);
+                lignes[v][w >>> 6] |= 1L << w;
+            }
+        }
+        this.echeance = echeance;
+        this.couleurs = new int[n];
+    }
+
+    /**
+     * Décide si un graphe est 3-coloriable dans un temps limité.
+     *
+     * @param g            Le graphe.
+     * @param budgetMillis Le temps maximal de recherche, en millisecondes.
+     * @return La réponse, avec une 3-coloration si elle est positive.
+     * @see #decider(GrapheFige, long)
+     */
+    public static Resultat decider(Graphe g, long budgetMillis) {
+        return decider(g.figer(), budgetMillis);
+    }
+
+    /**
+     * Décide si un graphe figé est 3-coloriable dans un temps limité. Les réponses
+     * {@link Reponse#OUI} et {@link Reponse#NON} sont des preuves ; à l'échéance, ou si une
+     * composante du 3-cœur dépasse {@link #TAILLE_MAX_COMPOSANTE} sommets, la réponse est
+     * {@link Reponse#INDETERMINE}. Seuls l'épluchage du 3-cœur et le découpage en composantes,
+     * linéaires, échappent à l'échéance ; la clique gloutonne et chaque composante la respectent.
+     *
+     * @param g            Le graphe figé.
+     * @param budgetMillis Le temps maximal de recherche, en millisecondes.
+     * @return La réponse, avec une 3-coloration si elle est positive.
+     */
+    public static Resultat decider(GrapheFige g, long budgetMillis) {
+        long echeance = System.nanoTime() + budgetMillis * 1_000_000L;
+        NoyauK noyau = NoyauK.eplucher(g, 3);
+        GrapheFige coeur = noyau.sousGraphe();
+        if (Clique.gloutonne(coeur, echeance).length > 3) {
+            return new Resultat(Reponse.NON, null);
+        }
+
+        Composantes composantes = Composantes.calculer(coeur);
+        int[][] couleursComposantes = new int[composantes.getNombre()][];
+        boolean tropGrande = false;
+        for (int c = 0; c < composantes.getNombre(); c++) {
+            if (System.nanoTime() - echeance > 0) {
+                return new Resultat(Reponse.INDETERMINE, null);
+            }
+            if (composantes.getSommets(c).length > TAILLE_MAX_COMPOSANTE) {
+                tropGrande = true; // Une composante plus petite peut encore prouver NON
+                continue;
+            }
+            TroisColoration recherche = new TroisColoration(composantes.sousGraphe(c), echeance);
+            if (!recherche.resoudre()) {
+                return new Resultat(recherche.interrompu ? Reponse.INDETERMINE : Reponse.NON, null);
+            }
+            couleursComposantes[c] = recherche.couleurs;
+        }
+        if (tropGrande) {
+            return new Resultat(Reponse.INDETERMINE, null);
+        }
+
+        Etiquetage colorationCoeur = coeur.nouvelEtiquetage();
+        for (int c = 0; c < composantes.getNombre(); c++) {
+            int[] sommets = composantes.getSommets(c);
+            for (int i = 0; i < sommets.length; i++) {
+                colorationCoeur.setNumeroCouleur(sommets[i], couleursComposantes[c][i] + 1);
+            }
+        }
+        return new Resultat(Reponse.OUI, noyau.completer(colorationCoeur));
+    }
+
+    private boolean resoudre() {
+        long[][] domaines = new long[3][mots];
+        long[] libres = new long[mots];
+        for (int w = 0; w < mots; w++) {
+            libres[w] = -1L;
+        }
+        if ((n & 63) != 0) {
+            libres[mots - 1] = (1L << n) - 1;
+        }
+        for (long[] domaine : domaines) {
+            System.arraycopy(libres, 0, domaine, 0, mots);
+        }
+        return explorer(domaines, libres, 0);
+    }
+
+    /**
+     * Propage les couleurs forcées puis branche sur un sommet encore libre.
+     *
+     * @param domaines Les trois domaines, modifiés sur place.
+     * @param libres   Les sommets non coloriés, modifiés sur place.
+     * @param ouvertes Le nombre de couleurs déjà utilisées.
+     * @return {@code true} si une 3-coloration a été trouvée, alors rangée dans {@link #couleurs}.
+     */
+    private boolean explorer(long[][] domaines, long[] libres, int ouvertes) {
+        if (interrompu) {
+            return false;
+        }
+        if ((++noeuds & MASQUE_HORLOGE) == 0 && System.nanoTime() - echeance > 0) {
+            interrompu = true;
+            return false;
+        }
+
+        long[] d0 = domaines[0];
+        long[] d1 = domaines[1];
+        long[] d2 = domaines[2];
+        boolean propagation = true;
+        while (propagation) {
+            propagation = false;
+            for (int w = 0; w < mots; w++) {
+                if ((libres[w] & ~(d0[w] | d1[w] | d2[w])) != 0) {
+                    return false;
+                }
+                long forces = libres[w] & (d0[w] ^ d1[w] ^ d2[w]) & ~(d0[w] & d1[w] & d2[w]);
+                if (forces != 0) {
+                    int v = (w << 6) + Long.numberOfTrailingZeros(forces);
+                    int c = (d0[w] & (1L << v)) != 0 ? 0 : (d1[w] & (1L << v)) != 0 ? 1 : 2;
+                    colorer(domaines, libres, v, c);
+                    ouvertes = Math.max(ouvertes, c + 1);
+                    propagation = true;
+                    break;
+                }
+            }
+        }
+
+        // Sommet libre à deux couleurs possibles (après propagation, aucun n'en a une seule)
+        // ayant le plus de voisins libres ; à défaut, n'importe quel sommet libre
+        int choisi = -1;
+        int meilleurScore = -1;
+        for (int w = 0; w < mots; w++) {
+            long mot = libres[w];
+            while (mot != 0) {
+                int v = (w << 6) + Long.numberOfTrailingZeros(mot);
+                mot &= mot - 1;
+                long bit = 1L << v;
+                int score = 0;
+                for (int x = 0; x < mots; x++) {
+                    score += Long.bitCount(lignes[v][x] & libres[x]);
+                }
+                if ((d0[w] & d1[w] & d2[w] & bit) == 0) {
+                    score += n;
+                }
+                if (score > meilleurScore) {
+                    choisi = v;
+                    meilleurScore = score;
+                }
+            }
+        }
+        if (choisi == -1) {
+            for (int v = 0; v < n; v++) {
+                int w = v >>> 6;
+                long bit = 1L << v;
+                couleurs[v] = (d0[w] & bit) != 0 ? 0 : (d1[w] & bit) != 0 ? 1 : 2;
+            }
+            return true;
+        }
+
+        for (int c = 0; c <= Math.min(ouvertes, 2); c++) {
+            if ((domaines[c][choisi >>> 6] & (1L << choisi)) != 0) {
+                long[][] fils = { d0.clone(), d1.clone(), d2.clone() };
+                long[] libresFils = libres.clone();
+                colorer(fils, libresFils, choisi, c);
+                if (explorer(fils, libresFils, Math.max(ouvertes, c + 1))) {
+                    return true;
+                }
+                if (interrompu) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Donne la couleur c au sommet v : v n'est plus libre, son domaine se réduit à c et c est
+     * retirée du domaine de ses voisins.
+     */
+    private void colorer(long[][] domaines, long[] libres, int v, int c) {
+        int w = v >>> 6;
+        long bit = 1L << v;
+        libres[w] &= ~bit;
+        for (int autre = 0; autre < 3; autre++) {
+            if (autre != c) {
+                domaines[autre][w] &= ~bit;
+            }
+        }
+        long[] domaine = domaines[c];
+        long[] ligne = lignes[v];
+        for (int x = 0; x < mots; x++) {
+            domaine[x] &= ~ligne[x];
+        }
+    }
+}
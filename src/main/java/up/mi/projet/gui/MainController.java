@@ -6,6 +6,7 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
 import javafx.scene.control.Spinner;
 import javafx.scene.control.SpinnerValueFactory;
 import javafx.scene.paint.Color;
@@ -26,10 +27,16 @@ import java.util.Map;
  * - 2-Coloration (pour les graphes bipartis)
  * - Glouton (ordre naturel)
  * - Welsh-Powell (ordre décroissant de degré)
+ * - RLF (classes de couleur construites une à une)
+ * - Plus petit dernier (ordre de dégénérescence, au plus dégénérescence + 1 couleurs)
+ * - DSATUR (saturation décroissante)
  * - Wigderson (pour les graphes 3-coloriables)
  */
 public class MainController {
 
+    private static final long BUDGET_CLIQUE_MILLIS = 200; // Recherche exacte de clique après chaque coloration
+    private static final long BUDGET_TROIS_COLORATION_MILLIS = 2000; // Test de 3-colorabilité après Wigderson
+
     @FXML
     private Canvas canevas;
     @FXML
@@ -38,9 +45,12 @@ public class MainController {
     private Spinner<Integer> aSpinner;
     @FXML
     private ComboBox<String> algorithmeComboBox;
+    @FXML
+    private Label bilanLabel;
 
     private Graphe graphe;
     private Etiquetage etiquetage;
+    private ColorationIncrementale coloration; // Répare etiquetage à l'ajout d'arêtes, null si à reconstruire
     private final Map<Integer, Point> positionsSommets = new HashMap<>();
     private int compteurSommets = 0;
 
@@ -61,6 +71,9 @@ public class MainController {
                 "2-Coloration",
                 "Glouton",
                 "Welsh-Powell",
+                "RLF",
+                "Plus petit dernier",
+                "DSATUR",
                 "Wigderson"));
         graphe = new Graphe(50);
         etiquetage = new Etiquetage(50);
@@ -86,6 +99,7 @@ public class MainController {
         compteurSommets = 0;
         deSpinner.setDisable(true);
         aSpinner.setDisable(true);
+        bilanLabel.setText("");
         effacerCanevas();
     }
 
@@ -129,7 +143,7 @@ public class MainController {
             Etiquetage nouvelEtiquetage = new Etiquetage(compteurSommets);
             if (etiquetage != null) {
                 for (int i = 0; i < etiquetage.getTaille() && i < compteurSommets - 1; i++) {
-                    nouvelEtiquetage.setCouleur(i, etiquetage.getCouleur(i));
+                    nouvelEtiquetage.setNumeroCouleur(i, etiquetage.getNumeroCouleur(i));
                 }
             }
             etiquetage = nouvelEtiquetage;
@@ -149,6 +163,9 @@ public class MainController {
      * Cette méthode vérifie d'abord que le graphe a été initialisé et contient des sommets.
      * Si les sommets sélectionnés sont valides, une arête non orientée est ajoutée entre eux.
      * Le graphe est ensuite redessiné pour afficher la nouvelle arête.
+     * Si la nouvelle arête relie deux sommets de même couleur, la coloration est réparée
+     * localement par {@link ColorationIncrementale}, dont une même instance sert à tous les
+     * ajouts tant que le graphe et l'étiquetage ne sont pas remplacés.
      * 
      * En cas d'erreur (par exemple, si l'arête existe déjà ou si les indices sont invalides),
      * une alerte est affichée à l'utilisateur.
@@ -162,7 +179,79 @@ public class MainController {
         int de = deSpinner.getValue();
         int a = aSpinner.getValue();
         try {
-            graphe.ajouterArrete(de, a);
+            // La coloration affichée est réparée localement plutôt que recalculée
+            colorationIncrementale().ajouterArrete(de, a);
+            rafraichirBilan();
+            dessinerGraphe();
+        } catch (IllegalArgumentException e) {
+            afficherAlerte("Erreur", e.getMessage());
+        }
+    }
+
+    /**
+     * Gère l'action du bouton "Supprimer l'arête".
+     * Retire l'arête entre les deux sommets sélectionnés via les spinners, ce qui permet
+     * de corriger une erreur de saisie sans repartir d'un graphe vide.
+     *
+     * Si aucune arête ne relie ces sommets, une alerte est affichée.
+     */
+    @FXML
+    private void gererSupprimerArete() {
+        if (graphe == null || compteurSommets == 0) {
+            afficherAlerte("Erreur", "Le graphe ne contient aucun sommet.");
+            return;
+        }
+        int de = deSpinner.getValue();
+        int a = aSpinner.getValue();
+        try {
+            if (!graphe.supprimerArete(de, a)) {
+                afficherAlerte("Erreur", "Aucune arête ne relie les sommets " + de + " et " + a + ".");
+                return;
+            }
+            coloration = null;
+            rafraichirBilan();
+            dessinerGraphe();
+        } catch (IllegalArgumentException e) {
+            afficherAlerte("Erreur", e.getMessage());
+        }
+    }
+
+    /**
+     * Gère l'action du bouton "Supprimer le sommet".
+     * Supprime le sommet sélectionné dans le spinner "de" ainsi que toutes ses arêtes.
+     *
+     * Le graphe renumérote ses sommets en plaçant le dernier à l'indice libéré : la position
+     * à l'écran et la couleur de ce sommet suivent ce changement d'indice. Les spinners sont
+     * ensuite mis à jour pour refléter le nouveau nombre de sommets.
+     */
+    @FXML
+    private void gererSupprimerSommet() {
+        if (graphe == null || compteurSommets == 0) {
+            afficherAlerte("Erreur", "Le graphe ne contient aucun sommet.");
+            return;
+        }
+        int sommet = deSpinner.getValue();
+        try {
+            int deplace = graphe.supprimerSommet(sommet);
+            compteurSommets--;
+
+            Etiquetage nouvelEtiquetage = new Etiquetage(compteurSommets);
+            for (int i = 0; i < compteurSommets; i++) {
+                int ancien = (i == sommet && deplace >= 0) ? deplace : i;
+                if (ancien < etiquetage.getTaille()) {
+                    nouvelEtiquetage.setNumeroCouleur(i, etiquetage.getNumeroCouleur(ancien));
+                }
+            }
+            etiquetage = nouvelEtiquetage;
+
+            Point position = positionsSommets.remove(deplace >= 0 ? deplace : sommet);
+            if (deplace >= 0) {
+                positionsSommets.put(sommet, position);
+            }
+
+            coloration = null;
+            mettreAJourSpinners();
+            rafraichirBilan();
             dessinerGraphe();
         } catch (IllegalArgumentException e) {
             afficherAlerte("Erreur", e.getMessage());
@@ -177,12 +266,18 @@ public class MainController {
      * - 2-Coloration : Tente un 2-coloriage (graphe biparti). Échoue si le graphe n'est pas biparti.
      * - Glouton : Applique un algorithme glouton dans l'ordre naturel des sommets.
      * - Welsh-Powell : Applique un algorithme glouton en triant les sommets par degré décroissant.
+     * - RLF : Construit chaque couleur en ajoutant le sommet ayant le plus de voisins déjà exclus.
+     * - Plus petit dernier : Colorie dans l'ordre inverse du retrait répété d'un sommet de degré minimal.
+     * - DSATUR : Colorie en priorité le sommet dont les voisins utilisent le plus de couleurs distinctes.
      * - Wigderson : Algorithme spécialisé pour les graphes 3-coloriables.
      * 
-     * Pour l'algorithme de Wigderson, une vérification supplémentaire est effectuée après l'exécution.
-     * Si la coloration obtenue n'est pas valide (sommets adjacents de même couleur), cela indique
-     * que le graphe n'est pas 3-coloriable, et un avertissement détaillé est affiché à l'utilisateur.
+     * Pour l'algorithme de Wigderson, si la coloration obtenue utilise plus de 3 couleurs, la
+     * 3-colorabilité du graphe est décidée exactement (voir {@link #verifierTroisColorable()}).
      * 
+     * Après chaque exécution, le nombre de couleurs k est comparé à la taille ω d'une clique
+     * cherchée pendant au plus {@link #BUDGET_CLIQUE_MILLIS} ms : l'écart k − ω, affiché sous le
+     * bouton, indique combien de couleurs un algorithme exact pourrait au mieux économiser.
+     *
      * Cette méthode vérifie également que :
      * - Le graphe contient au moins un sommet
      * - Un algorithme a été sélectionné dans la ComboBox
@@ -215,26 +310,110 @@ public class MainController {
                 case "Welsh-Powell":
                     etiquetage = AlgorithmesUtilitaires.welshPowell(graphe);
                     break;
+                case "RLF":
+                    etiquetage = AlgorithmesUtilitaires.rlf(graphe);
+                    break;
+                case "Plus petit dernier":
+                    etiquetage = AlgorithmesUtilitaires.plusPetitDernier(graphe);
+                    break;
+                case "DSATUR":
+                    etiquetage = AlgorithmesUtilitaires.dsatur(graphe);
+                    break;
                 case "Wigderson":
                     etiquetage = AlgorithmesUtilitaires.wigderson(graphe);
-                    if (!AlgorithmesUtilitaires.estCol(graphe, etiquetage)) {
-                        afficherAlerte("Avertissement",
-                                "La coloration obtenue n'est pas propre.\n\n" +
-                                        "Cela signifie que le graphe n'est pas 3-coloriable.\n" +
-                                        "L'algorithme de Wigderson fonctionne correctement uniquement\n" +
-                                        "sur les graphes 3-coloriables.\n\n" +
-                                        "Conseil : Essayez l'algorithme '2-Coloration' pour vérifier\n" +
-                                        "si votre graphe est biparti, ou utilisez 'Welsh-Powell'\n" +
-                                        "pour une coloration générale.");
+                    if (etiquetage.getNombreCouleurs() > 3) {
+                        verifierTroisColorable();
                     }
                     break;
             }
+            afficherBilan(Clique.evaluer(graphe, etiquetage, BUDGET_CLIQUE_MILLIS));
             dessinerGraphe();
+        } catch (NonBipartiException e) {
+            StringBuilder message = new StringBuilder("Échec de l'algorithme : " + e.getMessage());
+            int[] cycle = e.getCycleImpair();
+            if (cycle != null) {
+                message.append("\n\nCycle impair :");
+                for (int s : cycle) {
+                    message.append(' ').append(graphe.getSommet(s).getValeur());
+                }
+            }
+            afficherAlerte("Erreur", message.toString());
         } catch (Exception e) {
             afficherAlerte("Erreur", "Échec de l'algorithme : " + e.getMessage());
         }
     }
 
+    /**
+     * Décide si le graphe est 3-coloriable, en au plus {@link #BUDGET_TROIS_COLORATION_MILLIS} ms,
+     * après un Wigderson qui a utilisé plus de 3 couleurs. Si le graphe l'est, sa 3-coloration
+     * remplace celle de Wigderson ; sinon, l'utilisateur est averti que la réponse est prouvée,
+     * ou qu'elle n'a pas pu être établie dans le temps imparti ou faute de taille raisonnable.
+     */
+    private void verifierTroisColorable() {
+        TroisColoration.Resultat decision = TroisColoration.decider(graphe, BUDGET_TROIS_COLORATION_MILLIS);
+        switch (decision.getReponse()) {
+            case OUI:
+                etiquetage = decision.getEtiquetage();
+                afficherAlerte("Information",
+                        "L'algorithme de Wigderson a utilisé plus de 3 couleurs, mais le graphe est\n" +
+                                "3-coloriable : la 3-coloration trouvée par recherche exacte est affichée.");
+                break;
+            case NON:
+                afficherAlerte("Avertissement",
+                        "Le graphe n'est pas 3-coloriable (preuve par recherche exhaustive).\n\n" +
+                                "L'algorithme de Wigderson garantit peu de couleurs uniquement\n" +
+                                "sur les graphes 3-coloriables ; la coloration affichée reste propre.\n\n" +
+                                "Conseil : utilisez 'DSATUR' ou 'Welsh-Powell' pour une coloration générale.");
+                break;
+            default:
+                afficherAlerte("Avertissement",
+                        "La 3-colorabilité du graphe n'a pas pu être décidée en "
+                                + BUDGET_TROIS_COLORATION_MILLIS + " ms\n" +
+                                "(ou une partie du graphe dépasse "
+                                + TroisColoration.TAILLE_MAX_COMPOSANTE + " sommets).\n" +
+                                "La coloration de Wigderson affichée reste propre.");
+                break;
+        }
+    }
+
+    /**
+     * Renvoie l'objet qui répare la coloration à l'ajout d'arêtes. Il n'est reconstruit, en
+     * O(n), que lorsque le graphe ou l'étiquetage affiché a été remplacé ou qu'un sommet ou une
+     * arête a été supprimé ; sinon chaque ajout ne coûte que la réparation locale.
+     *
+     * @return L'instance associée au graphe et à l'étiquetage courants.
+     */
+    private ColorationIncrementale colorationIncrementale() {
+        if (coloration == null || coloration.getGraphe() != graphe || coloration.getEtiquetage() != etiquetage) {
+            coloration = new ColorationIncrementale(graphe, etiquetage);
+        }
+        return coloration;
+    }
+
+    /**
+     * Recalcule le bilan affiché sous le bouton "Exécuter" après une modification du graphe,
+     * s'il y en a un : une réparation peut ouvrir une couleur, et une arête peut agrandir la clique.
+     */
+    private void rafraichirBilan() {
+        if (!bilanLabel.getText().isEmpty()) {
+            afficherBilan(Clique.evaluer(graphe, etiquetage, BUDGET_CLIQUE_MILLIS));
+        }
+    }
+
+    /**
+     * Affiche sous le bouton "Exécuter" le nombre de couleurs, la borne inférieure et leur écart.
+     *
+     * @param rapport Le rapport de la coloration, avec sa borne inférieure.
+     */
+    private void afficherBilan(RapportColoration rapport) {
+        String bilan = rapport.getNombreCouleurs() + " couleur(s), clique de " + rapport.getBorneInferieure()
+                + "\nÉcart : " + rapport.getEcart();
+        if (rapport.estPropre() && rapport.estComplete() && rapport.getEcart() == 0) {
+            bilan += " (coloration optimale)";
+        }
+        bilanLabel.setText(bilan);
+    }
+
     /**
      * Gère l'action du bouton "Effacer les couleurs".
      * Réinitialise toutes les couleurs des sommets à {@link Couleur#AUCUNE} sans modifier
@@ -253,6 +432,7 @@ public class MainController {
             return;
         }
         etiquetage = new Etiquetage(graphe.getCompteur());
+        bilanLabel.setText("");
         dessinerGraphe();
     }
 
@@ -278,8 +458,8 @@ public class MainController {
      * Dessine le graphe complet sur le canevas.
      * Cette méthode effectue un rendu visuel en deux passes :
      * 
-     * 1. Dessin des arêtes : Parcourt toutes les paires de sommets adjacents et trace des lignes noires
-     *    entre leurs positions respectives.
+     * 1. Dessin des arêtes : Parcourt les voisins de chaque sommet et trace une ligne noire
+     *    par arête entre les positions de ses extrémités.
      * 
      * 2. Dessin des sommets : Pour chaque sommet, dessine un cercle rempli avec la couleur correspondant
      *    à son étiquetage actuel, puis affiche son numéro au centre.
@@ -293,19 +473,19 @@ public class MainController {
 
         gc.setStroke(Color.BLACK);
         for (int i = 0; i < graphe.getCompteur(); i++) {
-            for (int j = i + 1; j < graphe.getCompteur(); j++) {
-                if (graphe.estAdjacent(i, j)) {
-                    Point p1 = positionsSommets.get(i);
+            Point p1 = positionsSommets.get(i);
+            int source = i;
+            graphe.forEachVoisin(i, j -> {
+                if (j > source) {
                     Point p2 = positionsSommets.get(j);
                     gc.strokeLine(p1.x, p1.y, p2.x, p2.y);
                 }
-            }
+            });
         }
 
         for (int i = 0; i < graphe.getCompteur(); i++) {
             Point p = positionsSommets.get(i);
-            Couleur c = etiquetage.getCouleur(i);
-            gc.setFill(obtenirCouleur(c));
+            gc.setFill(obtenirCouleur(etiquetage.getNumeroCouleur(i)));
             gc.fillOval(p.x - 10, p.y - 10, 20, 20);
             gc.strokeText(String.valueOf(i), p.x - 5, p.y + 5);
         }
@@ -325,8 +505,9 @@ public class MainController {
      * Configure les plages de valeurs des spinners "de" et "à" en fonction du nombre actuel
      * de sommets dans le graphe. Les valeurs vont de 0 à (compteurSommets - 1).
      * 
-     * Si au moins un sommet existe, les spinners sont activés. Sinon, ils restent désactivés.
-     * Cette méthode est appelée après chaque ajout de sommet pour maintenir la cohérence de l'interface.
+     * Si au moins un sommet existe, les spinners sont activés. Sinon, ils sont désactivés.
+     * Cette méthode est appelée après chaque ajout ou suppression de sommet pour maintenir
+     * la cohérence de l'interface.
      */
     private void mettreAJourSpinners() {
         if (compteurSommets > 0) {
@@ -334,6 +515,9 @@ public class MainController {
             aSpinner.setDisable(false);
             deSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(0, compteurSommets - 1, 0));
             aSpinner.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(0, compteurSommets - 1, 0));
+        } else {
+            deSpinner.setDisable(true);
+            aSpinner.setDisable(true);
         }
     }
 
@@ -376,6 +560,22 @@ public class MainController {
         }
     }
 
+    /**
+     * Convertit un numéro de couleur de l'{@link Etiquetage} en une couleur JavaFX.
+     * Les numéros 1 à 6 utilisent la palette de {@link Couleur} (voir {@link #obtenirCouleur(Couleur)}) ;
+     * au-delà, la teinte est répartie selon l'angle d'or pour que les couleurs successives
+     * restent distinguables.
+     *
+     * @param numero Le numéro de couleur du sommet ({@link Etiquetage#SANS_COULEUR} s'il n'est pas colorié).
+     * @return La couleur JavaFX correspondante pour le rendu graphique.
+     */
+    private Color obtenirCouleur(int numero) {
+        if (numero < Couleur.values().length) {
+            return obtenirCouleur(Couleur.depuisNumero(numero));
+        }
+        return Color.hsb((numero * 137.508) % 360, 0.65, 0.9);
+    }
+
     /**
      * Affiche une boîte de dialogue d'information modale.
      * Cette méthode utilitaire crée et affiche une alerte JavaFX de type INFORMATION
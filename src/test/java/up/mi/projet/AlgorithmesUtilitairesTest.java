@@ -3,6 +3,9 @@ package up.mi.projet;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -76,9 +79,10 @@ class AlgorithmesUtilitairesTest {
         g.ajouterArrete(1, 2);
         g.ajouterArrete(2, 0);
 
-        assertThrows(NonBipartiException.class, () -> {
+        NonBipartiException ex = assertThrows(NonBipartiException.class, () -> {
             AlgorithmesUtilitaires.deuxCol(g);
         }, "Doit lever NonBipartiException pour un triangle");
+        assertEquals(3, ex.getCycleImpair().length, "Le cycle impair est le triangle");
     }
 
     @Test
@@ -211,4 +215,361 @@ class AlgorithmesUtilitairesTest {
         assertTrue(AlgorithmesUtilitaires.estCol(g, e), "Un graphe à un sommet doit être coloriable");
         assertNotEquals(Couleur.AUCUNE, e.getCouleur(0), "Le sommet doit avoir une couleur");
     }
+
+    @Test
+    @DisplayName("triDegre : degrés décroissants, égalités dans l'ordre des indices")
+    void testTriDegre() throws TailleInsuffisanteException {
+        Graphe g = new Graphe(5);
+        for (int i = 0; i < 5; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        g.ajouterArrete(3, 0);
+        g.ajouterArrete(3, 1);
+        g.ajouterArrete(3, 4);
+        g.ajouterArrete(1, 4);
+
+        assertArrayEquals(new int[] { 3, 1, 4, 0, 2 }, AlgorithmesUtilitaires.triDegre(g));
+        assertArrayEquals(new int[] { 3, 1, 4, 0, 2 }, AlgorithmesUtilitaires.triDegre(g.figer()));
+    }
+
+    @Test
+    @DisplayName("glouton et Welsh-Powell : plus de six couleurs (graphe complet K10)")
+    void testPlusDeSixCouleurs() throws TailleInsuffisanteException {
+        Graphe g = new Graphe();
+        for (int i = 0; i < 10; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        for (int i = 0; i < 10; i++) {
+            for (int j = i + 1; j < 10; j++) {
+                g.ajouterArrete(i, j);
+            }
+        }
+
+        Etiquetage e = AlgorithmesUtilitaires.welshPowell(g);
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, e), "La coloration doit être valide");
+        assertEquals(10, e.getNombreCouleurs(), "K10 nécessite 10 couleurs");
+    }
+
+    @Test
+    @DisplayName("dsatur : graphe couronne colorié avec 2 couleurs, là où le glouton en utilise n/2")
+    void testDsaturCouronne() throws TailleInsuffisanteException {
+        // Couronne : a_i relié à b_j pour i != j, sommets ordonnés a_0, b_0, a_1, b_1, ...
+        Graphe g = new Graphe();
+        for (int i = 0; i < 12; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        for (int i = 0; i < 6; i++) {
+            for (int j = 0; j < 6; j++) {
+                if (i != j) {
+                    g.ajouterArrete(2 * i, 2 * j + 1);
+                }
+            }
+        }
+        int[] ordre = new int[12];
+        for (int i = 0; i < 12; i++) {
+            ordre[i] = i;
+        }
+
+        Etiquetage e = AlgorithmesUtilitaires.dsatur(g);
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, e), "La coloration doit être valide");
+        assertEquals(2, e.getNombreCouleurs(), "DSATUR est exact sur les graphes bipartis");
+        assertEquals(6, AlgorithmesUtilitaires.glouton(g, ordre).getNombreCouleurs());
+    }
+
+    @Test
+    @DisplayName("dsatur : cycle impair et graphe complet de plus de 64 sommets")
+    void testDsaturCycleEtComplet() throws TailleInsuffisanteException {
+        Graphe cycle = new Graphe();
+        for (int i = 0; i < 7; i++) {
+            cycle.ajouterSommet(new Sommet(i));
+        }
+        for (int i = 0; i < 7; i++) {
+            cycle.ajouterArrete(i, (i + 1) % 7);
+        }
+        assertEquals(3, AlgorithmesUtilitaires.dsatur(cycle).getNombreCouleurs());
+
+        Graphe complet = new Graphe();
+        for (int i = 0; i < 70; i++) {
+            complet.ajouterSommet(new Sommet(i));
+        }
+        for (int i = 0; i < 70; i++) {
+            for (int j = i + 1; j < 70; j++) {
+                complet.ajouterArrete(i, j);
+            }
+        }
+        Etiquetage e = AlgorithmesUtilitaires.dsatur(complet);
+        assertTrue(AlgorithmesUtilitaires.estCol(complet, e), "La coloration doit être valide");
+        assertEquals(70, e.getNombreCouleurs());
+    }
+
+    /**
+     * Construit au format CSR la chaîne 0 - 1 - ... - (n - 1), fermée en cycle si demandé.
+     */
+    private static GrapheFige chaine(int n, boolean fermee) {
+        int[] debuts = new int[n + 1];
+        int[] cibles = new int[2 * n];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            debuts[i] = k;
+            if (fermee && i == n - 1) {
+                cibles[k++] = 0;
+            }
+            if (i > 0) {
+                cibles[k++] = i - 1;
+            }
+            if (i < n - 1) {
+                cibles[k++] = i + 1;
+            }
+            if (fermee && i == 0) {
+                cibles[k++] = n - 1;
+            }
+        }
+        debuts[n] = k;
+        return new GrapheFigeTableaux(debuts, Arrays.copyOf(cibles, k));
+    }
+
+    @Test
+    @DisplayName("deuxCol : chaîne d'un million de sommets sans débordement de pile")
+    void testDeuxColLongueChaine() throws NonBipartiException {
+        GrapheFige g = chaine(1_000_000, false);
+
+        Etiquetage e = AlgorithmesUtilitaires.deuxCol(g);
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, e), "La coloration doit être valide");
+        assertEquals(2, e.getNombreCouleurs());
+    }
+
+    @Test
+    @DisplayName("deuxCol : le cycle impair trouvé est renvoyé dans l'exception")
+    void testDeuxColCycleImpair() {
+        GrapheFige g = chaine(200_001, true);
+
+        NonBipartiException ex = assertThrows(NonBipartiException.class, () -> AlgorithmesUtilitaires.deuxCol(g));
+        int[] cycle = ex.getCycleImpair();
+
+        assertEquals(200_001, cycle.length, "Le seul cycle du graphe passe par tous les sommets");
+        for (int k = 0; k < cycle.length; k++) {
+            assertTrue(g.estAdjacent(cycle[k], cycle[(k + 1) % cycle.length]));
+        }
+    }
+
+    @Test
+    @DisplayName("wigderson : roue de 401 sommets, rayon 2-colorié sur place puis moyeu glouton")
+    void testWigdersonRoue() throws Exception {
+        Graphe g = new Graphe();
+        for (int i = 0; i <= 400; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        for (int i = 0; i < 400; i++) {
+            g.ajouterArrete(i, (i + 1) % 400);
+            g.ajouterArrete(i, 400);
+        }
+
+        Etiquetage e = AlgorithmesUtilitaires.wigderson(g);
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, e), "La phase gloutonne ne doit pas réutiliser les couleurs voisines");
+        assertEquals(3, e.getNombreCouleurs());
+    }
+
+    @Test
+    @DisplayName("wigderson : voisinage non biparti signalé avec son cycle impair")
+    void testWigdersonVoisinageNonBiparti() throws TailleInsuffisanteException {
+        // K4 dont le sommet 0 porte aussi 12 feuilles : son voisinage contient le triangle 1-2-3
+        Graphe g = new Graphe();
+        for (int i = 0; i < 16; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        for (int i = 0; i < 4; i++) {
+            for (int j = i + 1; j < 4; j++) {
+                g.ajouterArrete(i, j);
+            }
+        }
+        for (int i = 4; i < 16; i++) {
+            g.ajouterArrete(0, i);
+        }
+
+        NonBipartiException ex = assertThrows(NonBipartiException.class, () -> AlgorithmesUtilitaires.wigderson(g));
+        assertArrayEquals(new int[] { 1, 2, 3 }, Arrays.stream(ex.getCycleImpair()).sorted().toArray());
+    }
+
+    @Test
+    @DisplayName("triPlusPetitDernier : dégénérescence et borne d + 1 sur un arbre et une grille")
+    void testPlusPetitDernier() throws TailleInsuffisanteException {
+        // Arbre binaire complet : dégénérescence 1, donc 2 couleurs
+        Graphe arbre = new Graphe();
+        for (int i = 0; i < 127; i++) {
+            arbre.ajouterSommet(new Sommet(i));
+            if (i > 0) {
+                arbre.ajouterArrete(i, (i - 1) / 2);
+            }
+        }
+        assertEquals(1, AlgorithmesUtilitaires.degenerescence(arbre));
+        assertEquals(2, AlgorithmesUtilitaires.plusPetitDernier(arbre).getNombreCouleurs());
+
+        // Grille 10 x 10 avec une diagonale par case : dégénérescence 3
+        Graphe grille = new Graphe();
+        for (int i = 0; i < 100; i++) {
+            grille.ajouterSommet(new Sommet(i));
+        }
+        for (int l = 0; l < 10; l++) {
+            for (int c = 0; c < 10; c++) {
+                if (c < 9) grille.ajouterArrete(10 * l + c, 10 * l + c + 1);
+                if (l < 9) grille.ajouterArrete(10 * l + c, 10 * (l + 1) + c);
+                if (l < 9 && c < 9) grille.ajouterArrete(10 * l + c, 10 * (l + 1) + c + 1);
+            }
+        }
+        int[] ordre = AlgorithmesUtilitaires.triPlusPetitDernier(grille);
+        assertEquals(100, Arrays.stream(ordre).distinct().count(), "L'ordre est une permutation");
+        assertEquals(3, AlgorithmesUtilitaires.degenerescence(grille));
+        Etiquetage e = AlgorithmesUtilitaires.glouton(grille, ordre);
+        assertTrue(AlgorithmesUtilitaires.estCol(grille, e), "La coloration doit être valide");
+        assertTrue(e.getNombreCouleurs() <= 4);
+    }
+
+    @Test
+    @DisplayName("minCouleurPossible et degreNonColories : curseur et tableau de travail réutilisés")
+    void testTableauDeTravailReutilise() throws TailleInsuffisanteException {
+        Graphe g = grapheAleatoire(60, 0.2, 4);
+        GrapheFige f = g.figer();
+        Etiquetage e = new Etiquetage(60);
+        for (int i = 0; i < 60; i += 2) {
+            e.setNumeroCouleur(i, i % 7 + 1);
+        }
+
+        Graphe.CurseurVoisins curseur = g.curseur(0);
+        boolean[] interdit = new boolean[AlgorithmesUtilitaires.degreMax(f) + 1];
+        for (int s = 0; s < 60; s++) {
+            int attendue = AlgorithmesUtilitaires.minCouleurPossible(g, e, s);
+            assertEquals(attendue, AlgorithmesUtilitaires.minCouleurPossible(g, e, s, curseur, interdit));
+            assertEquals(attendue, AlgorithmesUtilitaires.minCouleurPossible(f, e, s, interdit));
+            for (boolean b : interdit) {
+                assertFalse(b, "Le tableau de travail doit être remis à false");
+            }
+            assertEquals(AlgorithmesUtilitaires.degreNonColories(f, e, s),
+                    AlgorithmesUtilitaires.degreNonColories(e, curseur.placer(s)));
+        }
+    }
+
+    /**
+     * Graphe aléatoire G(n, p), reproductible pour une graine donnée.
+     */
+    private static Graphe grapheAleatoire(int n, double p, long graine) throws TailleInsuffisanteException {
+        Random alea = new Random(graine);
+        Graphe g = new Graphe();
+        for (int i = 0; i < n; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (alea.nextDouble() < p) {
+                    g.ajouterArrete(i, j);
+                }
+            }
+        }
+        return g;
+    }
+
+    @Test
+    @DisplayName("rlf : couronne en 2 couleurs, K10 en 10 couleurs, graphe aléatoire propre")
+    void testRlf() throws TailleInsuffisanteException {
+        Graphe couronne = new Graphe();
+        for (int i = 0; i < 12; i++) {
+            couronne.ajouterSommet(new Sommet(i));
+        }
+        for (int i = 0; i < 6; i++) {
+            for (int j = 0; j < 6; j++) {
+                if (i != j) {
+                    couronne.ajouterArrete(2 * i, 2 * j + 1);
+                }
+            }
+        }
+        assertEquals(2, AlgorithmesUtilitaires.rlf(couronne).getNombreCouleurs());
+
+        Graphe complet = new Graphe();
+        for (int i = 0; i < 10; i++) {
+            complet.ajouterSommet(new Sommet(i));
+            for (int j = 0; j < i; j++) {
+                complet.ajouterArrete(i, j);
+            }
+        }
+        assertEquals(10, AlgorithmesUtilitaires.rlf(complet).getNombreCouleurs());
+
+        Graphe aleatoire = grapheAleatoire(200, 0.5, 2);
+        Etiquetage e = AlgorithmesUtilitaires.rlf(aleatoire);
+        assertTrue(AlgorithmesUtilitaires.estCol(aleatoire, e), "La coloration doit être valide");
+        assertTrue(e.getNombreCouleurs() <= AlgorithmesUtilitaires.welshPowell(aleatoire).getNombreCouleurs());
+    }
+
+    @Test
+    @DisplayName("verifier : arêtes en conflit et nombre de couleurs distinctes")
+    void testVerifier() throws TailleInsuffisanteException {
+        Graphe g = new Graphe();
+        for (int i = 0; i < 5; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        g.ajouterArrete(0, 1);
+        g.ajouterArrete(1, 2);
+        g.ajouterArrete(2, 3);
+        g.ajouterArrete(3, 4);
+        g.ajouterArrete(4, 0);
+        Etiquetage e = new Etiquetage(5);
+        int[] couleurs = { 1, 4, 4, 1, 1 };
+        for (int i = 0; i < 5; i++) {
+            e.setNumeroCouleur(i, couleurs[i]);
+        }
+
+        RapportColoration rapport = AlgorithmesUtilitaires.verifier(g, e);
+
+        assertFalse(rapport.estPropre());
+        assertEquals(3, rapport.getNombreConflits());
+        assertArrayEquals(new int[][] { { 0, 4 }, { 1, 2 }, { 3, 4 } }, rapport.getConflits());
+        assertEquals(2, rapport.getNombreCouleurs(), "Les numéros 1 et 4 sont utilisés");
+        assertTrue(rapport.estComplete());
+        assertFalse(AlgorithmesUtilitaires.estCol(g, e));
+    }
+
+    @Test
+    @DisplayName("verifier : un numéro négatif ou très grand est signalé sans faire échouer la vérification")
+    void testVerifierNumerosExtremes() {
+        GrapheFige g = chaine(4, false);
+        Etiquetage e = new Etiquetage(4);
+        e.setNumeroCouleur(0, -3);
+        e.setNumeroCouleur(1, Integer.MAX_VALUE);
+        e.setNumeroCouleur(2, 1);
+        e.setNumeroCouleur(3, Etiquetage.SANS_COULEUR);
+
+        RapportColoration rapport = AlgorithmesUtilitaires.verifier(g, e);
+
+        assertTrue(rapport.estPropre());
+        assertFalse(rapport.estComplete());
+        assertArrayEquals(new int[] { 0, 3 }, rapport.getSommetsInvalides());
+        assertEquals(2, rapport.getNombreCouleurs(), "Seuls 1 et Integer.MAX_VALUE sont des couleurs");
+
+        e.setNumeroCouleur(2, Integer.MAX_VALUE);
+        e.setNumeroCouleur(3, -3);
+        rapport = AlgorithmesUtilitaires.verifier(g, e);
+        assertArrayEquals(new int[][] { { 1, 2 } }, rapport.getConflits());
+        assertEquals(1, rapport.getNombreCouleurs());
+        assertArrayEquals(new int[] { 0, 3 }, rapport.getSommetsInvalides());
+    }
+
+    @Test
+    @DisplayName("verifier : grand graphe vérifié en parallèle, conflits retrouvés dans l'ordre")
+    void testVerifierParallele() throws NonBipartiException {
+        GrapheFige g = chaine(100_000, false);
+        Etiquetage e = AlgorithmesUtilitaires.deuxCol(g);
+        assertTrue(AlgorithmesUtilitaires.verifier(g, e).estPropre());
+        assertTrue(AlgorithmesUtilitaires.estCol(g, e));
+
+        e.setNumeroCouleur(70_000, e.getNumeroCouleur(70_001));
+        RapportColoration rapport = AlgorithmesUtilitaires.verifier(g, e);
+
+        // 69 999 et 70 001 ont la même couleur dans un 2-coloriage de la chaîne
+        assertArrayEquals(new int[][] { { 69_999, 70_000 }, { 70_000, 70_001 } }, rapport.getConflits());
+        assertEquals(2, rapport.getNombreCouleurs());
+        assertFalse(AlgorithmesUtilitaires.estCol(g, e));
+        assertThrows(IllegalArgumentException.class, () -> AlgorithmesUtilitaires.verifier(g, new Etiquetage(10)));
+    }
 }
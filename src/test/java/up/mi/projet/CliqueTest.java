@@ -0,0 +1,187 @@
+package up.mi.projet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link Clique}.
+ * Compare la clique maximum à une énumération exhaustive et vérifie la borne inférieure
+ * portée par {@link RapportColoration}.
+ */
+@DisplayName("Tests de la recherche de cliques")
+class CliqueTest {
+
+    private static void assertClique(GrapheFige g, int[] clique) {
+        for (int a = 0; a < clique.length; a++) {
+            for (int b = a + 1; b < clique.length; b++) {
+                assertTrue(clique[a] < clique[b], "Sommets triés par indice croissant");
+                assertTrue(g.estAdjacent(clique[a], clique[b]), clique[a] + " et " + clique[b] + " non adjacents");
+            }
+        }
+    }
+
+    /**
+     * Taille de la plus grande clique, par énumération des 2^n sous-ensembles.
+     */
+    private static int cliqueExhaustive(GrapheFige g) {
+        int n = g.getCompteur();
+        int[] voisins = new int[n];
+        for (int i = 0; i < n; i++) {
+            for (int k = g.getDebut(i); k < g.getFin(i); k++) {
+                voisins[i] |= 1 << g.getCible(k);
+            }
+        }
+        int meilleure = 0;
+        for (int s = 1; s < 1 << n; s++) {
+            boolean clique = true;
+            for (int i = 0; i < n && clique; i++) {
+                if ((s >>> i & 1) != 0) {
+                    clique = (s & ~(1 << i) & ~voisins[i]) == 0;
+                }
+            }
+            if (clique) {
+                meilleure = Math.max(meilleure, Integer.bitCount(s));
+            }
+        }
+        return meilleure;
+    }
+
+    @Test
+    @DisplayName("Une clique de 70 sommets, sur plusieurs mots, est retrouvée gloutonnement")
+    void testGloutonnePlusieursMots() throws TailleInsuffisanteException {
+        Graphe g = ColorationParalleleTest.grapheAleatoire(200, 0.05, 1);
+        for (int i = 100; i < 170; i++) {
+            for (int j = i + 1; j < 170; j++) {
+                if (!g.estAdjacent(i, j)) {
+                    g.ajouterArrete(i, j);
+                }
+            }
+        }
+        int[] clique = Clique.gloutonne(g);
+
+        assertClique(g.figer(), clique);
+        assertTrue(clique.length >= 70);
+    }
+
+    /**
+     * Un sommet central (0) relié à {@code k} cycles disjoints de 5 sommets : dégénérescence 3,
+     * mais degré maximal 5k, et chaque voisinage antérieur contient le sommet central.
+     */
+    private static GrapheFige moyeuEtCycles(int k) {
+        int n = 1 + 5 * k;
+        int[] debuts = new int[n + 1];
+        debuts[1] = 5 * k;
+        for (int i = 1; i < n; i++) {
+            debuts[i + 1] = debuts[i] + 3;
+        }
+        int[] cibles = new int[debuts[n]];
+        for (int i = 1; i < n; i++) {
+            cibles[i - 1] = i;
+            int base = 1 + (i - 1) / 5 * 5;
+            int[] voisins = { 0, base + (i - base + 1) % 5, base + (i - base + 4) % 5 };
+            Arrays.sort(voisins);
+            System.arraycopy(voisins, 0, cibles, debuts[i], 3);
+        }
+        return new GrapheFigeTableaux(debuts, cibles);
+    }
+
+    @Test
+    @DisplayName("Un sommet de très grand degré ne rend pas la clique gloutonne quadratique")
+    void testMoyeu() {
+        GrapheFige g = moyeuEtCycles(20_000);
+        int[] clique = assertTimeout(Duration.ofSeconds(5), () -> Clique.gloutonne(g));
+
+        assertClique(g, clique);
+        assertEquals(3, clique.length);
+    }
+
+    @Test
+    @DisplayName("Le budget est respecté même quand chaque voisinage se résout en peu de nœuds")
+    void testBudgetNombreuxVoisinages() {
+        GrapheFige g = moyeuEtCycles(20_000);
+        Clique.Resultat r = assertTimeout(Duration.ofSeconds(5), () -> Clique.maximum(g, 1));
+
+        assertFalse(r.estMaximum());
+        assertClique(g, r.getSommets());
+        assertTrue(r.getTaille() >= 1 && r.getTaille() <= 3);
+        assertEquals(3, Clique.maximum(g, 0).getTaille(), "Sans budget, la phase gloutonne va à son terme");
+    }
+
+    @Test
+    @DisplayName("Sur un graphe dense, le budget borne aussi la phase gloutonne")
+    void testBudgetGrapheDense() throws TailleInsuffisanteException {
+        GrapheFige g = ColorationParalleleTest.grapheAleatoire(3000, 0.5, 3).figer();
+        long debut = System.nanoTime();
+        Clique.Resultat r = Clique.maximum(g, 100);
+        long ecouleMillis = (System.nanoTime() - debut) / 1_000_000L;
+
+        assertFalse(r.estMaximum());
+        assertTrue(r.getTaille() >= 1);
+        assertClique(g, r.getSommets());
+        assertTrue(ecouleMillis < 100 + 400, "Budget dépassé : " + ecouleMillis + " ms");
+    }
+
+    @Test
+    @DisplayName("La clique maximum coïncide avec l'énumération exhaustive")
+    void testMaximumExhaustif() throws TailleInsuffisanteException {
+        for (long graine = 0; graine < 10; graine++) {
+            GrapheFige g = ColorationParalleleTest.grapheAleatoire(18, 0.3 + 0.05 * graine, graine).figer();
+            int attendue = cliqueExhaustive(g);
+
+            Clique.Resultat r = Clique.maximum(g, 10_000);
+            assertTrue(r.estMaximum());
+            assertClique(g, r.getSommets());
+            assertEquals(attendue, r.getTaille(), "graine " + graine);
+
+            int[] gloutonne = Clique.gloutonne(g);
+            assertClique(g, gloutonne);
+            assertTrue(gloutonne.length <= attendue);
+        }
+    }
+
+    @Test
+    @DisplayName("Sans budget, seule la clique gloutonne est renvoyée, sans preuve")
+    void testSansBudget() throws TailleInsuffisanteException {
+        GrapheFige g = ColorationParalleleTest.grapheAleatoire(300, 0.2, 5).figer();
+        Clique.Resultat r = Clique.maximum(g, 0);
+
+        assertFalse(r.estMaximum());
+        assertClique(g, r.getSommets());
+        assertEquals(Clique.gloutonne(g).length, r.getTaille());
+        assertTrue(Clique.maximum(g, 10_000).getTaille() >= r.getTaille());
+    }
+
+    @Test
+    @DisplayName("Écart à la borne inférieure : 1 sur un cycle impair, 0 sur K4")
+    void testEcart() throws TailleInsuffisanteException {
+        Graphe cycle = new Graphe();
+        for (int i = 0; i < 5; i++) {
+            cycle.ajouterSommet(new Sommet(i));
+        }
+        for (int i = 0; i < 5; i++) {
+            cycle.ajouterArrete(i, (i + 1) % 5);
+        }
+        RapportColoration rapport = Clique.evaluer(cycle, AlgorithmesUtilitaires.welshPowell(cycle), 1_000);
+        assertTrue(rapport.estPropre());
+        assertEquals(2, rapport.getBorneInferieure());
+        assertEquals(1, rapport.getEcart());
+
+        Graphe k4 = new Graphe();
+        for (int i = 0; i < 4; i++) {
+            k4.ajouterSommet(new Sommet(i));
+            for (int j = 0; j < i; j++) {
+                k4.ajouterArrete(i, j);
+            }
+        }
+        Etiquetage e = AlgorithmesUtilitaires.welshPowell(k4);
+        rapport = Clique.evaluer(k4, e, 1_000);
+        assertEquals(4, rapport.getBorneInferieure());
+        assertEquals(0, rapport.getEcart());
+        assertEquals(0, AlgorithmesUtilitaires.verifier(k4, e).getBorneInferieure(), "Sans clique, la borne vaut 0");
+    }
+}
@@ -0,0 +1,138 @@
+package up.mi.projet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link ColorationExacte}.
+ * Vérifie l'optimalité sur des graphes dont le nombre chromatique est connu et le respect du budget.
+ */
+@DisplayName("Tests de la résolution exacte")
+class ColorationExacteTest {
+
+    /**
+     * Construit le graphe de Mycielski M_k (sans triangle, de nombre chromatique k).
+     */
+    private static Graphe mycielski(int k) throws TailleInsuffisanteException {
+        Graphe g = new Graphe();
+        g.ajouterSommet(new Sommet(0));
+        g.ajouterSommet(new Sommet(1));
+        g.ajouterArrete(0, 1);
+        for (int niveau = 3; niveau <= k; niveau++) {
+            int n = g.getCompteur();
+            for (int i = 0; i <= n; i++) {
+                g.ajouterSommet(new Sommet(n + i));
+            }
+            for (int u = 0; u < n; u++) {
+                for (int v = 0; v < n; v++) {
+                    if (u < v && g.estAdjacent(u, v)) {
+                        g.ajouterArrete(n + u, v);
+                        g.ajouterArrete(n + v, u);
+                    }
+                }
+                g.ajouterArrete(n + u, 2 * n);
+            }
+        }
+        return g;
+    }
+
+    @Test
+    @DisplayName("Graphe de Mycielski M5 : 5 couleurs prouvées optimales malgré une clique de taille 2")
+    void testMycielski() throws TailleInsuffisanteException {
+        Graphe g = mycielski(5);
+
+        ColorationExacte.Resultat r = ColorationExacte.resoudre(g, 60_000);
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, r.getEtiquetage()), "La coloration doit être valide");
+        assertEquals(5, r.getNombreCouleurs());
+        assertEquals(5, r.getBorneInferieure());
+        assertTrue(r.estOptimal());
+    }
+
+    @Test
+    @DisplayName("Long cycle impair : la recherche traverse des seaux de plusieurs mots et prouve 3 couleurs")
+    void testLongCycleImpair() throws TailleInsuffisanteException {
+        int n = 201;
+        Graphe g = GrapheTest.grapheVide(n);
+        for (int i = 0; i < n; i++) {
+            g.ajouterArrete(i, (i + 1) % n);
+        }
+
+        ColorationExacte.Resultat r = ColorationExacte.resoudre(g, 60_000);
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, r.getEtiquetage()), "La coloration doit être valide");
+        assertEquals(3, r.getNombreCouleurs());
+        assertTrue(r.estOptimal());
+    }
+
+    @Test
+    @DisplayName("Le résultat parallèle est identique au résultat séquentiel")
+    void testParalleleSequentiel() throws TailleInsuffisanteException {
+        Random alea = new Random(7);
+        Graphe g = new Graphe();
+        for (int i = 0; i < 40; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        for (int i = 0; i < 40; i++) {
+            for (int j = i + 1; j < 40; j++) {
+                if (alea.nextInt(100) < 40) {
+                    g.ajouterArrete(i, j);
+                }
+            }
+        }
+
+        ColorationExacte.Resultat sequentiel;
+        ForkJoinPool unThread = new ForkJoinPool(1);
+        try {
+            sequentiel = ColorationExacte.resoudre(g.figer(), 60_000, unThread);
+        } finally {
+            unThread.shutdown();
+        }
+        ColorationExacte.Resultat parallele;
+        ForkJoinPool quatreThreads = new ForkJoinPool(4);
+        try {
+            parallele = ColorationExacte.resoudre(g.figer(), 60_000, quatreThreads);
+        } finally {
+            quatreThreads.shutdown();
+        }
+
+        assertTrue(sequentiel.estOptimal());
+        assertTrue(parallele.estOptimal());
+        assertEquals(sequentiel.getNombreCouleurs(), parallele.getNombreCouleurs());
+        assertTrue(AlgorithmesUtilitaires.estCol(g, parallele.getEtiquetage()));
+    }
+
+    @Test
+    @DisplayName("Budget épuisé : la meilleure coloration connue et la borne de la clique sont renvoyées")
+    void testBudgetEpuise() throws TailleInsuffisanteException {
+        Graphe g = mycielski(7);
+
+        ColorationExacte.Resultat r = ColorationExacte.resoudre(g, 0);
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, r.getEtiquetage()), "La coloration doit être valide");
+        assertEquals(2, r.getBorneInferieure(), "Seule la clique initiale est prouvée");
+        assertTrue(r.getNombreCouleurs() >= 7);
+    }
+
+    @Test
+    @DisplayName("Budget court respecté même quand la recherche est découpée entre plusieurs threads")
+    void testBudgetParallele() throws TailleInsuffisanteException {
+        GrapheFige g = mycielski(7).figer();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            long debut = System.nanoTime();
+            ColorationExacte.Resultat r = ColorationExacte.resoudre(g, 100, pool);
+            long dureeMillis = (System.nanoTime() - debut) / 1_000_000L;
+
+            assertFalse(r.estOptimal());
+            assertTrue(dureeMillis < 2_000, "Durée : " + dureeMillis + " ms pour un budget de 100 ms");
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
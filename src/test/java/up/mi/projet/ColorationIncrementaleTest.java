@@ -0,0 +1,96 @@
+package up.mi.projet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link ColorationIncrementale}.
+ * Vérifie que chaque réparation locale laisse une coloration propre.
+ */
+@DisplayName("Tests de la coloration incrémentale")
+class ColorationIncrementaleTest {
+
+    @Test
+    @DisplayName("Recoloriage d'une extrémité avec une couleur existante")
+    void testRecoloriageSimple() throws TailleInsuffisanteException {
+        Graphe g = GrapheTest.grapheVide(3);
+        g.ajouterArrete(0, 1);
+        Etiquetage e = new Etiquetage(3);
+        e.setNumeroCouleur(0, 1);
+        e.setNumeroCouleur(1, 2);
+        e.setNumeroCouleur(2, 1);
+
+        ColorationIncrementale inc = new ColorationIncrementale(g, e);
+        inc.ajouterArrete(0, 2);
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, e), "La coloration doit être valide");
+        assertEquals(2, e.getNombreCouleurs(), "La chaîne 1-0-2 reste 2-coloriable");
+    }
+
+    @Test
+    @DisplayName("Échange de Kempe plutôt qu'une nouvelle couleur")
+    void testKempe() throws TailleInsuffisanteException {
+        // Chaînes 0-1 et 2-3 coloriées 1, 2 et 2, 1 : l'arête 1-2 relie deux sommets de couleur 2
+        // dont les voisins interdisent la couleur 1 ; échanger 1 et 2 sur la chaîne 2-3 suffit
+        Graphe g = GrapheTest.grapheVide(4);
+        g.ajouterArrete(0, 1);
+        g.ajouterArrete(2, 3);
+        Etiquetage e = new Etiquetage(4);
+        int[] couleurs = { 1, 2, 2, 1 };
+        for (int i = 0; i < 4; i++) {
+            e.setNumeroCouleur(i, couleurs[i]);
+        }
+
+        new ColorationIncrementale(g, e).ajouterArrete(1, 2);
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, e), "La coloration doit être valide");
+        assertEquals(2, e.getNombreCouleurs(), "La chaîne 0-1-2-3 reste 2-coloriable");
+    }
+
+    @Test
+    @DisplayName("Nouvelle couleur lorsque ni recoloriage ni échange ne suffisent")
+    void testNouvelleCouleur() throws TailleInsuffisanteException {
+        // Chaîne 0-1-2-3-4 coloriée 1, 2, 1, 2, 1 : fermer le cycle impair impose une troisième couleur
+        Graphe g = GrapheTest.grapheVide(5);
+        for (int i = 0; i < 4; i++) {
+            g.ajouterArrete(i, i + 1);
+        }
+        Etiquetage e = new Etiquetage(5);
+        for (int i = 0; i < 5; i++) {
+            e.setNumeroCouleur(i, i % 2 + 1);
+        }
+
+        new ColorationIncrementale(g, e).ajouterArrete(0, 4);
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, e), "La coloration doit être valide");
+        assertEquals(3, e.getNombreCouleurs());
+    }
+
+    @Test
+    @DisplayName("Flux d'arêtes aléatoires : coloration toujours propre")
+    void testFluxAleatoire() throws TailleInsuffisanteException {
+        int n = 500;
+        Graphe g = GrapheTest.grapheVide(n);
+        Etiquetage e = new Etiquetage(n);
+        for (int i = 0; i < n; i++) {
+            e.setNumeroCouleur(i, 1);
+        }
+        ColorationIncrementale inc = new ColorationIncrementale(g, e);
+        Random alea = new Random(4);
+
+        for (int k = 0; k < 5000; k++) {
+            int i = alea.nextInt(n);
+            int j = alea.nextInt(n);
+            if (i != j) {
+                inc.ajouterArrete(i, j);
+            }
+        }
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, e), "La coloration doit être valide");
+        assertThrows(IllegalArgumentException.class, () -> inc.ajouterArrete(0, n));
+    }
+}
@@ -0,0 +1,86 @@
+package up.mi.projet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link ColorationParallele}.
+ * Vérifie que les colorations parallèles sont propres et reproductibles.
+ */
+@DisplayName("Tests des colorations parallèles")
+class ColorationParalleleTest {
+
+    /**
+     * Construit un graphe aléatoire de {@code n} sommets où chaque arête existe avec probabilité {@code p}.
+     */
+    static Graphe grapheAleatoire(int n, double p, long graine) throws TailleInsuffisanteException {
+        Random alea = new Random(graine);
+        Graphe g = new Graphe();
+        for (int i = 0; i < n; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (alea.nextDouble() < p) {
+                    g.ajouterArrete(i, j);
+                }
+            }
+        }
+        return g;
+    }
+
+    @Test
+    @DisplayName("Jones-Plassmann : coloration propre, au plus Δ + 1 couleurs, tours comptés")
+    void testJonesPlassmann() throws TailleInsuffisanteException {
+        GrapheFige g = grapheAleatoire(2000, 0.01, 3).figer();
+        int degreMax = 0;
+        for (int i = 0; i < g.getCompteur(); i++) {
+            degreMax = Math.max(degreMax, g.getDegre(i));
+        }
+
+        ColorationParallele.Resultat r = ColorationParallele.jonesPlassmann(g, 42);
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, r.getEtiquetage()), "La coloration doit être valide");
+        assertTrue(r.getEtiquetage().getNombreCouleurs() <= degreMax + 1);
+        assertTrue(r.getNombreTours() > 1 && r.getNombreTours() < g.getCompteur());
+    }
+
+    @Test
+    @DisplayName("Jones-Plassmann : même graine, même coloration ; graphe complet en n tours")
+    void testJonesPlassmannDeterministe() throws TailleInsuffisanteException {
+        GrapheFige g = grapheAleatoire(300, 0.1, 5).figer();
+        Etiquetage a = ColorationParallele.jonesPlassmann(g, 9).getEtiquetage();
+        Etiquetage b = ColorationParallele.jonesPlassmann(g, 9).getEtiquetage();
+        for (int i = 0; i < g.getCompteur(); i++) {
+            assertEquals(a.getNumeroCouleur(i), b.getNumeroCouleur(i));
+        }
+
+        ColorationParallele.Resultat complet = ColorationParallele.jonesPlassmann(grapheAleatoire(12, 1.0, 0), 1);
+        assertEquals(12, complet.getNombreTours(), "Un seul sommet est maximum local à chaque tour");
+        assertEquals(12, complet.getEtiquetage().getNombreCouleurs());
+    }
+
+    @Test
+    @DisplayName("Glouton spéculatif : coloration propre et proche du glouton séquentiel")
+    void testGloutonSpeculatif() throws Exception {
+        GrapheFige g = grapheAleatoire(6000, 0.002, 8).figer();
+        int[] ordre = AlgorithmesUtilitaires.triDegre(g);
+        int sequentiel = AlgorithmesUtilitaires.glouton(g, ordre).getNombreCouleurs();
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ColorationParallele.Resultat r = pool.submit(() -> ColorationParallele.gloutonSpeculatif(g, ordre)).get();
+
+            assertTrue(AlgorithmesUtilitaires.estCol(g, r.getEtiquetage()), "La coloration doit être valide");
+            assertTrue(r.getEtiquetage().getNombreCouleurs() <= sequentiel + 2);
+            assertTrue(r.getNombreTours() >= 1);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
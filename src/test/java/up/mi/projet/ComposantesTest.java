@@ -0,0 +1,72 @@
+package up.mi.projet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link Composantes}.
+ * Vérifie l'étiquetage des composantes et la fusion des colorations par composante.
+ */
+@DisplayName("Tests des composantes connexes")
+class ComposantesTest {
+
+    /**
+     * Graphe de 9 sommets : triangle {0, 4, 8}, chaîne 1-3-5, sommets isolés 2, 6 et 7.
+     */
+    private static Graphe exemple() throws TailleInsuffisanteException {
+        Graphe g = new Graphe();
+        for (int i = 0; i < 9; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        g.ajouterArrete(0, 4);
+        g.ajouterArrete(4, 8);
+        g.ajouterArrete(8, 0);
+        g.ajouterArrete(1, 3);
+        g.ajouterArrete(3, 5);
+        return g;
+    }
+
+    @Test
+    @DisplayName("Composantes numérotées par plus petit sommet, sous-graphes renumérotés")
+    void testCalculer() throws TailleInsuffisanteException {
+        Composantes c = Composantes.calculer(exemple());
+
+        assertEquals(5, c.getNombre());
+        assertArrayEquals(new int[] { 0, 4, 8 }, c.getSommets(0));
+        assertArrayEquals(new int[] { 1, 3, 5 }, c.getSommets(1));
+        assertEquals(1, c.getTaille(2));
+        assertEquals(c.getComposante(0), c.getComposante(8));
+
+        GrapheFige triangle = c.sousGraphe(0);
+        assertEquals(3, triangle.getNombreAretes());
+        assertTrue(triangle.estAdjacent(0, 2));
+        GrapheFige chaine = c.sousGraphe(1);
+        assertEquals(2, chaine.getNombreAretes());
+        assertFalse(chaine.estAdjacent(0, 2));
+    }
+
+    @Test
+    @DisplayName("Coloration par composante : fusion propre, couleurs réutilisées")
+    void testColorier() throws Exception {
+        Graphe g = exemple();
+
+        Etiquetage e = Composantes.colorier(g, AlgorithmesUtilitaires::welshPowell);
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, e), "La coloration doit être valide");
+        assertEquals(3, e.getNombreCouleurs());
+        assertEquals(1, e.getNumeroCouleur(7), "Un sommet isolé reçoit la couleur 1");
+    }
+
+    @Test
+    @DisplayName("Échec d'une composante : cycle impair renuméroté dans le graphe entier")
+    void testEchec() throws TailleInsuffisanteException {
+        NonBipartiException ex = assertThrows(NonBipartiException.class,
+                () -> Composantes.colorier(exemple(), AlgorithmesUtilitaires::deuxCol));
+
+        assertArrayEquals(new int[] { 0, 4, 8 }, Arrays.stream(ex.getCycleImpair()).sorted().toArray());
+    }
+}
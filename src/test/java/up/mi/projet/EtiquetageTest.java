@@ -104,4 +104,27 @@ class EtiquetageTest {
             etiquetage.getCouleur(10);
         }, "Doit lever une exception pour indice hors limites");
     }
+
+    @Test
+    @DisplayName("Numéros de couleur au-delà de la palette")
+    void testNumerosCouleur() {
+        etiquetage.setNumeroCouleur(0, 3);
+        etiquetage.setNumeroCouleur(1, 42);
+        etiquetage.setCouleur(2, Couleur.VERT);
+
+        assertEquals(Couleur.BLEU, etiquetage.getCouleur(0), "Le numéro 3 correspond à BLEU");
+        assertEquals(42, etiquetage.getNumeroCouleur(1));
+        assertEquals(2, etiquetage.getNumeroCouleur(2), "VERT porte le numéro 2");
+        assertEquals(Etiquetage.SANS_COULEUR, etiquetage.getNumeroCouleur(3));
+        assertEquals(42, etiquetage.getNombreCouleurs());
+    }
+
+    @Test
+    @DisplayName("Palette d'affichage cyclique")
+    void testPaletteCyclique() {
+        assertEquals(Couleur.AUCUNE, Couleur.depuisNumero(0));
+        assertEquals(Couleur.VIOLET, Couleur.depuisNumero(6));
+        assertEquals(Couleur.ROUGE, Couleur.depuisNumero(7));
+        assertEquals(Couleur.VERT, Couleur.depuisNumero(14));
+    }
 }
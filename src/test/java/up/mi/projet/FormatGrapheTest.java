@@ -0,0 +1,99 @@
+package up.mi.projet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link FormatGraphe} : écriture d'un graphe (avec ou sans
+ * étiquetage) puis chargement par projection.
+ */
+@DisplayName("Tests du format binaire de graphe")
+class FormatGrapheTest {
+
+    @TempDir
+    Path repertoire;
+
+    /**
+     * Construit une étoile dont les arêtes sont ajoutées dans le désordre.
+     */
+    private static Graphe etoile() throws TailleInsuffisanteException {
+        Graphe g = new Graphe();
+        for (int i = 0; i < 5; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        g.ajouterArrete(0, 4);
+        g.ajouterArrete(0, 2);
+        g.ajouterArrete(0, 1);
+        g.ajouterArrete(3, 0);
+        return g;
+    }
+
+    @Test
+    @DisplayName("Écriture depuis un Graphe puis chargement avec étiquetage")
+    void testEcrireEtChargerAvecEtiquetage() throws Exception {
+        Graphe g = etoile();
+        Etiquetage e = AlgorithmesUtilitaires.welshPowell(g);
+        Path fichier = repertoire.resolve("etoile.gcsr");
+
+        FormatGraphe.ecrire(g, e, fichier);
+
+        assertEquals(32 + 4 * (6 + 8 + 5), Files.size(fichier));
+        try (GrapheProjete charge = FormatGraphe.charger(fichier)) {
+            assertEquals(5, charge.getCompteur());
+            assertEquals(4, charge.getDegre(0));
+            assertEquals(1, charge.getCible(charge.getDebut(0)), "Voisins triés à l'écriture");
+            assertEquals(4, charge.getCible(charge.getFin(0) - 1));
+            assertTrue(charge.estAdjacent(3, 0));
+
+            Etiquetage stocke = charge.getEtiquetage();
+            assertNotNull(stocke);
+            for (int i = 0; i < 5; i++) {
+                assertEquals(e.getNumeroCouleur(i), stocke.getNumeroCouleur(i));
+            }
+            assertThrows(ReadOnlyBufferException.class, () -> stocke.setNumeroCouleur(0, 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Écriture depuis un graphe figé, sans étiquetage")
+    void testEcrireGrapheFigeSansEtiquetage() throws Exception {
+        GrapheFige f = etoile().figer();
+        Path fichier = repertoire.resolve("fige.gcsr");
+
+        FormatGraphe.ecrire(f, null, fichier);
+
+        try (GrapheProjete charge = FormatGraphe.charger(fichier)) {
+            assertNull(charge.getEtiquetage());
+            assertEquals(f.getNombreAretes(), charge.getNombreAretes());
+            for (int k = 0; k < f.getDebut(5); k++) {
+                assertEquals(f.getCible(k), charge.getCible(k));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Signature ou version inconnue refusée")
+    void testFichierInvalide() throws Exception {
+        Path fichier = repertoire.resolve("g.gcsr");
+        FormatGraphe.ecrire(etoile(), null, fichier);
+        byte[] octets = Files.readAllBytes(fichier);
+
+        ByteBuffer.wrap(octets).order(ByteOrder.LITTLE_ENDIAN).putInt(4, FormatGraphe.VERSION + 1);
+        Files.write(fichier, octets);
+        assertThrows(IOException.class, () -> FormatGraphe.charger(fichier));
+
+        octets[0] = 'X';
+        Files.write(fichier, octets);
+        assertThrows(IOException.class, () -> FormatGraphe.charger(fichier));
+    }
+}
@@ -0,0 +1,89 @@
+package up.mi.projet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link GrapheDense}.
+ * Vérifie que la matrice compressée en bits se comporte comme celle de {@link Graphe},
+ * y compris au-delà de 64 sommets (plusieurs mots par ligne).
+ */
+@DisplayName("Tests de la classe GrapheDense")
+class GrapheDenseTest {
+
+    /**
+     * Construit un graphe dense de {@code n} sommets sans arête.
+     */
+    private static GrapheDense grapheVide(int n) throws TailleInsuffisanteException {
+        GrapheDense g = new GrapheDense(n);
+        for (int i = 0; i < n; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        return g;
+    }
+
+    @Test
+    @DisplayName("Ajout d'arêtes et adjacence symétrique au-delà de 64 sommets")
+    void testAdjacencePlusieursMots() throws TailleInsuffisanteException {
+        GrapheDense g = grapheVide(150);
+        g.ajouterArrete(0, 63);
+        g.ajouterArrete(0, 64);
+        g.ajouterArrete(0, 149);
+        g.ajouterArrete(70, 140);
+
+        assertTrue(g.estAdjacent(63, 0));
+        assertTrue(g.estAdjacent(64, 0));
+        assertTrue(g.estAdjacent(149, 0));
+        assertTrue(g.estAdjacent(140, 70));
+        assertFalse(g.estAdjacent(0, 65));
+        assertEquals(3, g.getDegre(0));
+        assertEquals(3, g.getVoisins(0).size());
+        assertEquals(149, g.getVoisins(0).get(2).getValeur());
+    }
+
+    @Test
+    @DisplayName("Exceptions identiques à Graphe")
+    void testExceptions() throws TailleInsuffisanteException {
+        GrapheDense g = grapheVide(2);
+
+        assertThrows(TailleInsuffisanteException.class, () -> g.ajouterSommet(new Sommet(2)));
+        assertThrows(IllegalArgumentException.class, () -> g.ajouterArrete(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> g.ajouterArrete(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> g.estAdjacent(-1, 0));
+    }
+
+    @Test
+    @DisplayName("estCol et minCouleurPossible travaillent mot par mot")
+    void testEstColEtMinCouleur() throws TailleInsuffisanteException {
+        GrapheDense g = grapheVide(100);
+        g.ajouterArrete(1, 90);
+        g.ajouterArrete(1, 2);
+
+        Etiquetage e = new Etiquetage(100);
+        for (int i = 0; i < 100; i++) {
+            e.setCouleur(i, Couleur.ROUGE);
+        }
+        e.setCouleur(1, Couleur.VERT);
+        assertTrue(AlgorithmesUtilitaires.estCol(g, e));
+        assertEquals(1, AlgorithmesUtilitaires.minCouleurPossible(g, e, 1), "ROUGE est interdit par les voisins 2 et 90");
+
+        e.setCouleur(90, Couleur.VERT);
+        assertFalse(AlgorithmesUtilitaires.estCol(g, e));
+    }
+
+    @Test
+    @DisplayName("Vue figée et Welsh-Powell")
+    void testFigerWelshPowell() throws TailleInsuffisanteException {
+        GrapheDense g = grapheVide(5);
+        for (int i = 0; i < 5; i++) {
+            g.ajouterArrete(i, (i + 1) % 5);
+        }
+        GrapheFige f = g.figer();
+
+        assertEquals(5, f.getNombreAretes());
+        assertTrue(f.estAdjacent(4, 0));
+        assertTrue(AlgorithmesUtilitaires.estCol(g, AlgorithmesUtilitaires.welshPowell(f)));
+    }
+}
@@ -0,0 +1,92 @@
+package up.mi.projet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link GrapheFige}.
+ * Vérifie que la vue CSR obtenue par {@link Graphe#figer()} reflète fidèlement
+ * le graphe d'origine et que les algorithmes de coloration l'acceptent.
+ */
+@DisplayName("Tests de la classe GrapheFige")
+class GrapheFigeTest {
+
+    private Graphe graphe;
+
+    /**
+     * Construit un graphe en étoile (0 relié à 1, 2, 3) plus l'arête 2-3.
+     */
+    @BeforeEach
+    void setUp() throws TailleInsuffisanteException {
+        graphe = new Graphe(5);
+        for (int i = 0; i < 5; i++) {
+            graphe.ajouterSommet(new Sommet(i));
+        }
+        graphe.ajouterArrete(0, 1);
+        graphe.ajouterArrete(0, 2);
+        graphe.ajouterArrete(0, 3);
+        graphe.ajouterArrete(2, 3);
+    }
+
+    @Test
+    @DisplayName("Nombre de sommets, d'arêtes et degrés")
+    void testTailleEtDegres() {
+        GrapheFige f = graphe.figer();
+
+        assertEquals(5, f.getCompteur());
+        assertEquals(4, f.getNombreAretes());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(graphe.getDegre(i), f.getDegre(i), "Degré du sommet " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Adjacence identique au graphe d'origine")
+    void testAdjacence() {
+        GrapheFige f = graphe.figer();
+
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j < 5; j++) {
+                assertEquals(graphe.estAdjacent(i, j), f.estAdjacent(i, j), "Paire (" + i + ", " + j + ")");
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> f.estAdjacent(0, 5));
+    }
+
+    @Test
+    @DisplayName("Voisins triés par indice croissant")
+    void testVoisinsTries() {
+        GrapheFige f = graphe.figer();
+
+        assertEquals(f.getDebut(0) + 3, f.getFin(0));
+        assertEquals(1, f.getCible(f.getDebut(0)));
+        assertEquals(2, f.getCible(f.getDebut(0) + 1));
+        assertEquals(3, f.getCible(f.getDebut(0) + 2));
+        assertEquals(f.getDebut(4), f.getFin(4), "Le sommet 4 est isolé");
+    }
+
+    @Test
+    @DisplayName("La copie figée ignore les modifications ultérieures")
+    void testCopieIndependante() {
+        GrapheFige f = graphe.figer();
+        graphe.ajouterArrete(1, 4);
+
+        assertFalse(f.estAdjacent(1, 4));
+        assertTrue(graphe.estAdjacent(1, 4));
+    }
+
+    @Test
+    @DisplayName("Algorithmes de coloration sur la vue figée")
+    void testAlgorithmesSurVueFigee() throws Exception {
+        GrapheFige f = graphe.figer();
+
+        assertTrue(AlgorithmesUtilitaires.estCol(f, AlgorithmesUtilitaires.glouton(f, new int[] { 0, 1, 2, 3, 4 })));
+        assertTrue(AlgorithmesUtilitaires.estCol(f, AlgorithmesUtilitaires.welshPowell(f)));
+        assertTrue(AlgorithmesUtilitaires.estCol(f, AlgorithmesUtilitaires.wigderson(f)));
+        assertThrows(NonBipartiException.class, () -> AlgorithmesUtilitaires.deuxCol(f),
+                "Le triangle 0-2-3 empêche tout 2-coloriage");
+    }
+}
@@ -0,0 +1,141 @@
+package up.mi.projet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link GrapheProjete} et le stockage hors tas associé
+ * ({@link EtiquetageProjete}, {@link TableauProjete}).
+ */
+@DisplayName("Tests de la classe GrapheProjete")
+class GrapheProjeteTest {
+
+    @TempDir
+    Path repertoire;
+
+    /**
+     * Construit le cycle C5 auquel on ajoute la corde 0-2.
+     */
+    private static Graphe cycleAvecCorde() throws TailleInsuffisanteException {
+        Graphe g = new Graphe();
+        for (int i = 0; i < 5; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        for (int i = 0; i < 5; i++) {
+            g.ajouterArrete(i, (i + 1) % 5);
+        }
+        g.ajouterArrete(0, 2);
+        return g;
+    }
+
+    @Test
+    @DisplayName("Écriture puis réouverture : même structure que la vue en mémoire")
+    void testCreerEtOuvrir() throws Exception {
+        GrapheFige memoire = cycleAvecCorde().figer();
+        Path fichier = repertoire.resolve("graphe.csr");
+
+        try (GrapheProjete cree = GrapheProjete.creer(memoire, fichier)) {
+            assertEquals(5, cree.getCompteur());
+        }
+        try (GrapheProjete projete = GrapheProjete.ouvrir(fichier)) {
+            assertEquals(memoire.getNombreAretes(), projete.getNombreAretes());
+            for (int i = 0; i < 5; i++) {
+                assertEquals(memoire.getDegre(i), projete.getDegre(i));
+                for (int j = 0; j < 5; j++) {
+                    assertEquals(memoire.estAdjacent(i, j), projete.estAdjacent(i, j));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Les algorithmes de coloration s'exécutent sur le graphe projeté")
+    void testColorationHorsTas() throws Exception {
+        try (GrapheProjete g = GrapheProjete.creer(cycleAvecCorde().figer(), repertoire.resolve("g.csr"))) {
+            Etiquetage e = AlgorithmesUtilitaires.welshPowell(g);
+
+            assertTrue(e instanceof EtiquetageProjete, "L'étiquetage doit lui aussi être hors tas");
+            assertTrue(AlgorithmesUtilitaires.estCol(g, e));
+            assertEquals(3, e.getNombreCouleurs());
+            ((EtiquetageProjete) e).close();
+        }
+    }
+
+    @Test
+    @DisplayName("Seule la coloration renvoyée crée un fichier : les intermédiaires restent sur le tas")
+    void testIntermediairesSurLeTas() throws Exception {
+        try (GrapheProjete g = GrapheProjete.creer(cycleAvecCorde().figer(), repertoire.resolve("g.csr"))) {
+            long avant = nombreEtiquetages();
+            ColorationExacte.Resultat exact = ColorationExacte.resoudre(g, 1_000);
+            assertEquals(avant + 1, nombreEtiquetages(), "Seule la coloration optimale est projetée");
+            ((EtiquetageProjete) exact.getEtiquetage()).close();
+            assertEquals(avant, nombreEtiquetages(), "La fermeture supprime le fichier temporaire");
+
+            Tabucol tabucol = new Tabucol(g, AlgorithmesUtilitaires.welshPowell(cycleAvecCorde()));
+            for (int k = 0; k < 3; k++) {
+                assertFalse(tabucol.getMeilleur() instanceof EtiquetageProjete);
+            }
+            assertEquals(avant, nombreEtiquetages());
+        }
+    }
+
+    private long nombreEtiquetages() throws IOException {
+        try (Stream<Path> fichiers = Files.list(repertoire)) {
+            return fichiers.filter(f -> f.toString().endsWith(".etiquetage")).count();
+        }
+    }
+
+    @Test
+    @DisplayName("Étiquetage projeté persistant")
+    void testEtiquetagePersistant() throws IOException {
+        Path fichier = repertoire.resolve("couleurs.bin");
+        try (EtiquetageProjete e = EtiquetageProjete.creer(fichier, 3)) {
+            e.setNumeroCouleur(2, 9);
+            e.setCouleur(0, Couleur.BLEU);
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> e.getNumeroCouleur(3));
+        }
+        try (EtiquetageProjete e = EtiquetageProjete.ouvrir(fichier)) {
+            assertEquals(3, e.getTaille());
+            assertEquals(Couleur.BLEU, e.getCouleur(0));
+            assertEquals(Etiquetage.SANS_COULEUR, e.getNumeroCouleur(1));
+            assertEquals(9, e.getNumeroCouleur(2));
+        }
+    }
+
+    @Test
+    @DisplayName("Tableau projeté découpé en plusieurs tranches")
+    void testTableauPlusieursTranches() throws IOException {
+        Path fichier = repertoire.resolve("tableau.bin");
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            TableauProjete t = new TableauProjete(canal, FileChannel.MapMode.READ_WRITE, 8, 10, 4);
+            for (int k = 0; k < 10; k++) {
+                t.set(k, k * k);
+            }
+            for (int k = 0; k < 10; k++) {
+                assertEquals(k * k, t.get(k), "Indice " + k);
+            }
+            assertEquals(10, t.longueur());
+        }
+        assertEquals(8 + 40, Files.size(fichier));
+    }
+
+    @Test
+    @DisplayName("Fichier tronqué refusé")
+    void testFichierTronque() throws IOException {
+        Path fichier = repertoire.resolve("tronque.csr");
+        Files.write(fichier, new byte[] { 1, 2, 3 });
+
+        assertThrows(IOException.class, () -> GrapheProjete.ouvrir(fichier));
+    }
+}
@@ -18,6 +18,17 @@ class GrapheTest {
 
     private Graphe graphe;
 
+    /**
+     * Construit un graphe de {@code n} sommets, de valeurs 0 à n - 1, sans arête.
+     */
+    static Graphe grapheVide(int n) throws TailleInsuffisanteException {
+        Graphe g = new Graphe();
+        for (int i = 0; i < n; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        return g;
+    }
+
     /**
      * Initialise un nouveau graphe avant chaque test.
      */
@@ -152,4 +163,126 @@ class GrapheTest {
         assertEquals(2, graphe.getDegre(1), "Tous les sommets doivent avoir degré 2");
         assertEquals(2, graphe.getDegre(2), "Tous les sommets doivent avoir degré 2");
     }
+
+    @Test
+    @DisplayName("Graphe sans limite de taille : croissance au fil des ajouts")
+    void testGrapheExtensible() throws TailleInsuffisanteException {
+        Graphe extensible = new Graphe();
+        for (int i = 0; i < 1000; i++) {
+            extensible.ajouterSommet(new Sommet(i));
+        }
+        for (int i = 1; i < 1000; i++) {
+            extensible.ajouterArrete(0, i);
+        }
+
+        assertEquals(1000, extensible.getCompteur());
+        assertEquals(999, extensible.getDegre(0), "Le sommet 0 est relié à tous les autres");
+        assertTrue(extensible.estAdjacent(999, 0));
+        assertEquals(999, extensible.getSommet(999).getValeur());
+    }
+
+    @Test
+    @DisplayName("Ajout d'une arête déjà présente sans effet")
+    void testAreteEnDouble() throws TailleInsuffisanteException {
+        graphe.ajouterSommet(new Sommet(0));
+        graphe.ajouterSommet(new Sommet(1));
+
+        graphe.ajouterArrete(0, 1);
+        graphe.ajouterArrete(1, 0);
+
+        assertEquals(1, graphe.getDegre(0), "L'arête ne doit être comptée qu'une fois");
+        assertEquals(1, graphe.getVoisins(1).size());
+    }
+
+    @Test
+    @DisplayName("Parcours des voisins sans liste : forEachVoisin, voisins et curseur")
+    void testParcoursVoisinsPrimitif() throws TailleInsuffisanteException {
+        for (int i = 0; i < 4; i++) {
+            graphe.ajouterSommet(new Sommet(i));
+        }
+        graphe.ajouterArrete(0, 1);
+        graphe.ajouterArrete(0, 3);
+
+        int[] somme = new int[1];
+        graphe.forEachVoisin(0, j -> somme[0] += j);
+        assertEquals(4, somme[0], "Les voisins de 0 sont 1 et 3");
+
+        int[] dest = new int[4];
+        assertEquals(2, graphe.voisins(0, dest));
+        assertEquals(1, dest[0]);
+        assertEquals(3, dest[1]);
+        assertThrows(IllegalArgumentException.class, () -> graphe.voisins(0, new int[1]));
+
+        Graphe.CurseurVoisins curseur = graphe.curseur(0);
+        assertEquals(1, curseur.suivant());
+        assertEquals(3, curseur.suivant());
+        assertFalse(curseur.aSuivant());
+
+        curseur.placer(3);
+        assertTrue(curseur.aSuivant());
+        assertEquals(0, curseur.suivant());
+        assertThrows(java.util.NoSuchElementException.class, curseur::suivant);
+    }
+
+    @Test
+    @DisplayName("Suppression d'une arête")
+    void testSupprimerArete() throws TailleInsuffisanteException {
+        for (int i = 0; i < 3; i++) {
+            graphe.ajouterSommet(new Sommet(i));
+        }
+        graphe.ajouterArrete(0, 1);
+        graphe.ajouterArrete(0, 2);
+
+        assertTrue(graphe.supprimerArete(1, 0));
+        assertFalse(graphe.estAdjacent(0, 1));
+        assertTrue(graphe.estAdjacent(0, 2));
+        assertEquals(1, graphe.getDegre(0));
+        assertEquals(0, graphe.getDegre(1));
+        assertFalse(graphe.supprimerArete(0, 1), "L'arête n'existe plus");
+        assertThrows(IllegalArgumentException.class, () -> graphe.supprimerArete(0, 3));
+    }
+
+    @Test
+    @DisplayName("Suppression d'un sommet : le dernier sommet prend sa place")
+    void testSupprimerSommet() throws TailleInsuffisanteException {
+        for (int i = 0; i < 4; i++) {
+            graphe.ajouterSommet(new Sommet(i));
+        }
+        graphe.ajouterArrete(0, 1);
+        graphe.ajouterArrete(1, 3);
+        graphe.ajouterArrete(2, 3);
+
+        assertEquals(3, graphe.supprimerSommet(1), "Le sommet 3 est déplacé à l'indice 1");
+        assertEquals(3, graphe.getCompteur());
+        assertEquals(1, graphe.getSommet(1).getValeur());
+        assertEquals(0, graphe.getDegre(0));
+        assertTrue(graphe.estAdjacent(1, 2), "L'ancienne arête 3-2 devient 1-2");
+        assertEquals(1, graphe.getDegre(1));
+
+        assertEquals(-1, graphe.supprimerSommet(2), "Supprimer le dernier sommet ne déplace rien");
+        assertEquals(2, graphe.getCompteur());
+        assertEquals(0, graphe.getDegre(1));
+    }
+
+    @Test
+    @DisplayName("Ajouts et suppressions répétés")
+    void testChurn() throws TailleInsuffisanteException {
+        Graphe g = new Graphe();
+        for (int i = 0; i < 200; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        for (int tour = 0; tour < 5; tour++) {
+            for (int i = 1; i < 200; i++) {
+                g.ajouterArrete(0, i);
+            }
+            for (int i = 1; i < 200; i++) {
+                assertTrue(g.supprimerArete(i, 0));
+            }
+        }
+        g.ajouterArrete(0, 199);
+
+        assertEquals(1, g.getDegre(0));
+        assertEquals(1, g.getDegre(199));
+        assertEquals(1, g.figer().getNombreAretes());
+    }
 }
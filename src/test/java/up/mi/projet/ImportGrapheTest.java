@@ -0,0 +1,90 @@
+package up.mi.projet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link ImportGraphe}.
+ * Vérifie les deux formats, le découpage en plages et le traitement des doublons et des boucles.
+ */
+@DisplayName("Tests de la classe ImportGraphe")
+class ImportGrapheTest {
+
+    @TempDir
+    Path dossier;
+
+    private Path ecrire(String nom, String contenu) throws IOException {
+        Path fichier = dossier.resolve(nom);
+        Files.writeString(fichier, contenu);
+        return fichier;
+    }
+
+    @Test
+    @DisplayName("DIMACS : commentaires, doublons, boucles et fins de ligne Windows")
+    void testDimacs() throws IOException {
+        Path fichier = ecrire("g.col",
+                "c triangle plus un sommet isolé\r\n"
+                        + "p edge 4 5\r\n"
+                        + "e 1 2\r\n"
+                        + "e 2 3\r\n"
+                        + "e 3 1\r\n"
+                        + "e 2 1\r\n"
+                        + "e 3 3\r\n");
+        GrapheFige g = ImportGraphe.lireDimacs(fichier);
+
+        assertEquals(4, g.getCompteur(), "Le nombre de sommets vient de la ligne p");
+        assertEquals(3, g.getNombreAretes());
+        assertTrue(g.estAdjacent(0, 2));
+        assertEquals(0, g.getDegre(3));
+        assertEquals(2, g.getDegre(0));
+    }
+
+    @Test
+    @DisplayName("Liste d'arêtes : le nombre de sommets est déduit du plus grand indice")
+    void testListeAretes() throws IOException {
+        Path fichier = ecrire("g.txt", "# commentaire\n0 1\n1\t2 7.5\n\n% autre\n  5 0");
+        GrapheFige g = ImportGraphe.lireListeAretes(fichier);
+
+        assertEquals(6, g.getCompteur());
+        assertEquals(3, g.getNombreAretes());
+        assertTrue(g.estAdjacent(5, 0));
+        assertTrue(g.estAdjacent(1, 2));
+    }
+
+    @Test
+    @DisplayName("Le découpage en plages ne change pas le résultat")
+    void testPlages() throws IOException {
+        StringBuilder contenu = new StringBuilder("c cycle de 500 sommets\np edge 500 1000\n");
+        for (int i = 0; i < 500; i++) {
+            contenu.append("e ").append(i + 1).append(' ').append((i + 1) % 500 + 1).append('\n');
+            contenu.append("e ").append((i + 1) % 500 + 1).append(' ').append(i + 1).append('\n');
+        }
+        Path fichier = ecrire("cycle.col", contenu.toString());
+
+        for (int nbPlages : new int[]{1, 3, 17, 200}) {
+            GrapheFige g = ImportGraphe.lire(fichier, true, nbPlages);
+            assertEquals(500, g.getCompteur());
+            assertEquals(500, g.getNombreAretes(), nbPlages + " plages");
+            for (int i = 0; i < 500; i++) {
+                assertEquals(2, g.getDegre(i));
+                assertTrue(g.estAdjacent(i, (i + 1) % 500));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Fichiers invalides")
+    void testInvalides() throws IOException {
+        assertThrows(IOException.class, () -> ImportGraphe.lireDimacs(ecrire("a.col", "e 1 2\n")));
+        assertThrows(IOException.class, () -> ImportGraphe.lireDimacs(ecrire("b.col", "p edge 2 1\ne 1 3\n")));
+        assertThrows(IOException.class, () -> ImportGraphe.lireDimacs(ecrire("c.col", "p edge 2 1\ne 0 1\n")));
+        assertThrows(IOException.class, () -> ImportGraphe.lireListeAretes(ecrire("d.txt", "0 -1\n")));
+    }
+}
@@ -0,0 +1,74 @@
+package up.mi.projet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link NoyauK}.
+ * Vérifie l'épluchage et l'extension de la coloration du cœur aux sommets épluchés.
+ */
+@DisplayName("Tests de l'épluchage du k-cœur")
+class NoyauKTest {
+
+    /**
+     * K5 (sommets 0 à 4) auquel sont accrochés un arbre binaire de 40 sommets et un cycle de
+     * 4 sommets reliés chacun au sommet 0 par une arête.
+     */
+    private static GrapheFige exemple() throws TailleInsuffisanteException {
+        Graphe g = new Graphe();
+        for (int i = 0; i < 49; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        for (int i = 0; i < 5; i++) {
+            for (int j = i + 1; j < 5; j++) {
+                g.ajouterArrete(i, j);
+            }
+        }
+        for (int i = 5; i < 45; i++) {
+            g.ajouterArrete(i, i == 5 ? 4 : 5 + (i - 6) / 2);
+        }
+        for (int i = 45; i < 49; i++) {
+            g.ajouterArrete(i, i == 48 ? 45 : i + 1);
+            g.ajouterArrete(i, 0);
+        }
+        return g.figer();
+    }
+
+    @Test
+    @DisplayName("Le 4-cœur est K5 ; le 3-cœur garde aussi le cycle relié à 0")
+    void testEplucher() throws TailleInsuffisanteException {
+        GrapheFige g = exemple();
+
+        NoyauK quatre = NoyauK.eplucher(g, 4);
+        assertArrayEquals(new int[] { 0, 1, 2, 3, 4 }, quatre.getNoyau());
+        assertEquals(44, quatre.getEpluches().length);
+        assertEquals(10, quatre.sousGraphe().getNombreAretes());
+
+        NoyauK trois = NoyauK.eplucher(g, 3);
+        assertArrayEquals(new int[] { 0, 1, 2, 3, 4, 45, 46, 47, 48 }, trois.getNoyau());
+    }
+
+    @Test
+    @DisplayName("Résolution exacte sur le seul cœur, épluchés coloriés en ordre inverse")
+    void testColorier() throws Exception {
+        GrapheFige g = exemple();
+
+        Etiquetage e = NoyauK.colorier(g, 4, f -> ColorationExacte.resoudre(f, 10_000).getEtiquetage());
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, e), "La coloration doit être valide");
+        assertEquals(5, e.getNombreCouleurs());
+    }
+
+    @Test
+    @DisplayName("Graphe entièrement épluché : le glouton final colorie tout")
+    void testToutEpluche() throws TailleInsuffisanteException, NonBipartiException {
+        GrapheFige g = exemple();
+
+        Etiquetage e = NoyauK.colorier(g, 10, AlgorithmesUtilitaires::wigderson);
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, e), "La coloration doit être valide");
+        assertTrue(e.getNombreCouleurs() <= 10);
+    }
+}
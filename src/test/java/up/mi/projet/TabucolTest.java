@@ -0,0 +1,108 @@
+package up.mi.projet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link Tabucol}.
+ * Vérifie que la recherche tabou réduit le nombre de couleurs sans jamais publier de coloration impropre.
+ */
+@DisplayName("Tests de la recherche tabou")
+class TabucolTest {
+
+    /**
+     * Construit le graphe couronne à 2 × {@code k} sommets, ordonnés a_0, b_0, a_1, b_1, ...
+     * Le glouton dans l'ordre naturel y utilise k couleurs, alors que 2 suffisent.
+     */
+    private static GrapheFige couronne(int k) throws TailleInsuffisanteException {
+        Graphe g = new Graphe();
+        for (int i = 0; i < 2 * k; i++) {
+            g.ajouterSommet(new Sommet(i));
+        }
+        for (int i = 0; i < k; i++) {
+            for (int j = 0; j < k; j++) {
+                if (i != j) {
+                    g.ajouterArrete(2 * i, 2 * j + 1);
+                }
+            }
+        }
+        return g.figer();
+    }
+
+    private static int[] ordreNaturel(int n) {
+        int[] ordre = new int[n];
+        for (int i = 0; i < n; i++) {
+            ordre[i] = i;
+        }
+        return ordre;
+    }
+
+    @Test
+    @DisplayName("Couronne : de k couleurs (glouton) à 2 couleurs")
+    void testCouronne() throws TailleInsuffisanteException {
+        GrapheFige g = couronne(15);
+        Etiquetage initiale = AlgorithmesUtilitaires.glouton(g, ordreNaturel(30));
+        assertEquals(15, initiale.getNombreCouleurs());
+
+        Tabucol tabucol = new Tabucol(g, initiale);
+        Etiquetage e = tabucol.ameliorer(500, 1);
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, e), "La coloration doit être valide");
+        assertEquals(2, e.getNombreCouleurs());
+        assertEquals(2, tabucol.getNombreCouleurs());
+    }
+
+    @Test
+    @DisplayName("Départs multiples : coloration propre, jamais pire que la coloration initiale")
+    void testParallele() throws TailleInsuffisanteException {
+        GrapheFige g = ColorationParalleleTest.grapheAleatoire(120, 0.3, 11).figer();
+        Etiquetage initiale = AlgorithmesUtilitaires.welshPowell(g);
+
+        Tabucol tabucol = new Tabucol(g, initiale);
+        Etiquetage e = tabucol.ameliorerEnParallele(300, 4, 7);
+
+        assertTrue(AlgorithmesUtilitaires.estCol(g, e), "La coloration doit être valide");
+        assertTrue(e.getNombreCouleurs() <= initiale.getNombreCouleurs());
+    }
+
+    @Test
+    @DisplayName("Une coloration initiale impropre est refusée")
+    void testInitialeImpropre() throws TailleInsuffisanteException {
+        GrapheFige g = couronne(3);
+        Etiquetage e = new Etiquetage(6);
+        for (int i = 0; i < 6; i++) {
+            e.setNumeroCouleur(i, 1);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new Tabucol(g, e));
+    }
+
+    @Test
+    @DisplayName("Une table gamma de plus de 2^31 entiers est refusée au lieu de déborder")
+    void testTableGammaTropGrande() {
+        int n = 50_000;
+        GrapheFige g = new GrapheFigeTableaux(new int[n + 1], new int[0]);
+        Etiquetage e = new Etiquetage(n);
+        for (int i = 0; i < n; i++) {
+            e.setNumeroCouleur(i, i + 1);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new Tabucol(g, e));
+    }
+
+    @Test
+    @DisplayName("Un arrêt demandé avant la recherche n'est pas perdu")
+    void testArretAvantRecherche() throws TailleInsuffisanteException {
+        GrapheFige g = couronne(15);
+        Etiquetage initiale = AlgorithmesUtilitaires.glouton(g, ordreNaturel(30));
+        Tabucol tabucol = new Tabucol(g, initiale);
+        tabucol.arreter();
+
+        Etiquetage e = assertTimeout(Duration.ofSeconds(1), () -> tabucol.ameliorer(10_000, 1));
+        assertEquals(15, e.getNombreCouleurs());
+        e = assertTimeout(Duration.ofSeconds(1), () -> tabucol.ameliorerEnParallele(10_000, 2, 1));
+        assertEquals(15, e.getNombreCouleurs());
+    }
+}
@@ -0,0 +1,140 @@
+package up.mi.projet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link TroisColoration}.
+ * Compare la décision au nombre chromatique exact et vérifie les colorations renvoyées.
+ */
+@DisplayName("Tests du test de 3-colorabilité")
+class TroisColorationTest {
+
+    private static void assertTroisColoration(Graphe g, TroisColoration.Resultat r) {
+        assertEquals(TroisColoration.Reponse.OUI, r.getReponse());
+        assertTrue(AlgorithmesUtilitaires.estCol(g, r.getEtiquetage()));
+        assertTrue(r.getEtiquetage().getNombreCouleurs() <= 3);
+    }
+
+    @Test
+    @DisplayName("Le graphe de Petersen est 3-coloriable")
+    void testPetersen() throws TailleInsuffisanteException {
+        Graphe g = GrapheTest.grapheVide(10);
+        for (int i = 0; i < 5; i++) {
+            g.ajouterArrete(i, (i + 1) % 5);
+            g.ajouterArrete(i, i + 5);
+            g.ajouterArrete(i + 5, (i + 2) % 5 + 5);
+        }
+        assertTroisColoration(g, TroisColoration.decider(g, 10_000));
+    }
+
+    @Test
+    @DisplayName("Une roue impaire sans K4, prolongée d'un arbre, n'est pas 3-coloriable")
+    void testRoueImpaire() throws TailleInsuffisanteException {
+        Graphe g = GrapheTest.grapheVide(26);
+        for (int i = 0; i < 5; i++) {
+            g.ajouterArrete(i, (i + 1) % 5);
+            g.ajouterArrete(i, 5);
+        }
+        for (int i = 6; i < 26; i++) {
+            g.ajouterArrete(i, i == 6 ? 0 : (i - 1) / 2 + 3);
+        }
+        assertEquals(3, Clique.gloutonne(g).length);
+        assertEquals(TroisColoration.Reponse.NON, TroisColoration.decider(g, 10_000).getReponse());
+    }
+
+    @Test
+    @DisplayName("La décision coïncide avec le nombre chromatique exact")
+    void testCoherenceColorationExacte() throws TailleInsuffisanteException {
+        for (long graine = 0; graine < 20; graine++) {
+            Graphe g = ColorationParalleleTest.grapheAleatoire(25, 0.12 + 0.01 * graine, graine);
+            ColorationExacte.Resultat exact = ColorationExacte.resoudre(g, 10_000);
+            assertTrue(exact.estOptimal());
+
+            TroisColoration.Resultat r = TroisColoration.decider(g, 10_000);
+            if (exact.getNombreCouleurs() <= 3) {
+                assertTroisColoration(g, r);
+            } else {
+                assertEquals(TroisColoration.Reponse.NON, r.getReponse(), "graine " + graine);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Quelques centaines de sommets : 3-coloration cachée et graphe trop dense")
+    void testQuelquesCentainesDeSommets() throws TailleInsuffisanteException {
+        Random alea = new Random(7);
+        Graphe cache = GrapheTest.grapheVide(300);
+        for (int i = 0; i < 300; i++) {
+            for (int j = i + 1; j < 300; j++) {
+                if (i % 3 != j % 3 && alea.nextDouble() < 0.03) {
+                    cache.ajouterArrete(i, j);
+                }
+            }
+        }
+        assertTroisColoration(cache, TroisColoration.decider(cache, 10_000));
+
+        Graphe dense = ColorationParalleleTest.grapheAleatoire(300, 6.0 / 300, 1);
+        assertEquals(TroisColoration.Reponse.NON, TroisColoration.decider(dense, 10_000).getReponse());
+    }
+
+    /**
+     * Ajoute une échelle circulaire de {@code m} barreaux (2m sommets de degré 3, biparti si m
+     * est pair) à partir du sommet {@code premier}.
+     */
+    private static void ajouterEchelle(Graphe g, int premier, int m) {
+        for (int i = 0; i < m; i++) {
+            int a = premier + 2 * i;
+            int suivant = premier + 2 * ((i + 1) % m);
+            g.ajouterArrete(a, a + 1);
+            g.ajouterArrete(a, suivant);
+            g.ajouterArrete(a + 1, suivant + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Une composante de plus de TAILLE_MAX_COMPOSANTE sommets n'est pas explorée")
+    void testComposanteTropGrande() throws TailleInsuffisanteException {
+        int m = TroisColoration.TAILLE_MAX_COMPOSANTE / 2 + 2;
+        Graphe grande = GrapheTest.grapheVide(2 * m);
+        ajouterEchelle(grande, 0, m);
+        assertEquals(TroisColoration.Reponse.INDETERMINE, TroisColoration.decider(grande, 10_000).getReponse());
+
+        // Une roue impaire disjointe prouve la réponse négative malgré la grande composante
+        Graphe avecRoue = GrapheTest.grapheVide(2 * m + 6);
+        ajouterEchelle(avecRoue, 0, m);
+        for (int i = 0; i < 5; i++) {
+            avecRoue.ajouterArrete(2 * m + i, 2 * m + (i + 1) % 5);
+            avecRoue.ajouterArrete(2 * m + i, 2 * m + 5);
+        }
+        assertEquals(TroisColoration.Reponse.NON, TroisColoration.decider(avecRoue, 10_000).getReponse());
+    }
+
+    @Test
+    @DisplayName("Une composante à la taille limite est décidée sans débordement de pile")
+    void testComposanteTailleLimite() throws TailleInsuffisanteException {
+        int m = TroisColoration.TAILLE_MAX_COMPOSANTE / 2;
+        Graphe g = GrapheTest.grapheVide(2 * m);
+        ajouterEchelle(g, 0, m);
+        assertTroisColoration(g, TroisColoration.decider(g, 10_000));
+    }
+
+    @Test
+    @DisplayName("Sans budget, la réponse est indéterminée avant la première composante")
+    void testEcheanceAvantComposantes() throws TailleInsuffisanteException {
+        Graphe g = GrapheTest.grapheVide(1000);
+        for (int base = 0; base < 1000; base += 10) {
+            for (int i = 0; i < 5; i++) {
+                g.ajouterArrete(base + i, base + (i + 1) % 5);
+                g.ajouterArrete(base + i, base + i + 5);
+                g.ajouterArrete(base + i + 5, base + (i + 2) % 5 + 5);
+            }
+        }
+        assertEquals(TroisColoration.Reponse.INDETERMINE, TroisColoration.decider(g, 0).getReponse());
+        assertTroisColoration(g, TroisColoration.decider(g, 10_000));
+    }
+}